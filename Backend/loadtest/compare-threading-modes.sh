@@ -0,0 +1,47 @@
+#!/bin/sh
+# Compare platform threads vs virtual threads on the same build.
+#
+# Starts the app twice (dev profile, then dev + virtual), runs the load
+# driver against each and prints both result tables.
+# Needs a Java 21 toolchain and the usual CLOUDINARY_* variables.
+#
+# Usage: loadtest/compare-threading-modes.sh [upload-file]
+set -e
+
+cd "$(dirname "$0")/.."
+
+UPLOAD_FILE="$1"
+SCENARIOS="feed"
+if [ -n "$UPLOAD_FILE" ]; then
+    SCENARIOS="feed,upload"
+fi
+
+gradle -q -PjavaVersion=21 bootJar
+JAR=$(ls build/libs/*.jar | grep -vE 'plain|jmh' | head -1)
+
+for MODE in platform virtual; do
+    PROFILES="dev"
+    if [ "$MODE" = "virtual" ]; then
+        PROFILES="dev,virtual"
+    fi
+
+    java -jar "$JAR" \
+        --spring.profiles.active="$PROFILES" \
+        --spring.jpa.show-sql=false \
+        --logging.level.com.rachnit.blog01=INFO \
+        --logging.level.org.springframework.security=INFO \
+        > "build/loadtest-$MODE.log" 2>&1 &
+    APP_PID=$!
+
+    until curl -s -o /dev/null http://localhost:8080/api/auth/login; do
+        sleep 1
+    done
+
+    gradle -q -PjavaVersion=21 loadTest \
+        -Dloadtest.label="$MODE" \
+        -Dloadtest.scenarios="$SCENARIOS" \
+        -Dloadtest.uploadFile="$UPLOAD_FILE"
+
+    kill "$APP_PID"
+    wait "$APP_PID" 2>/dev/null || true
+done
@@ -0,0 +1,124 @@
+package com.rachnit.blog01.benchmark;
+
+import com.rachnit.blog01.Blog01Application;
+import com.rachnit.blog01.entity.BlogPost;
+import com.rachnit.blog01.entity.Comment;
+import com.rachnit.blog01.entity.Like;
+import com.rachnit.blog01.entity.User;
+import com.rachnit.blog01.repository.CommentRepository;
+import com.rachnit.blog01.repository.LikeRepository;
+import com.rachnit.blog01.repository.PostRepository;
+import com.rachnit.blog01.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Boots the application once per benchmark JVM against an in-memory H2
+ * database and seeds a small, fixed data set: USERS users, POSTS posts,
+ * each post liked and commented by several users.
+ */
+public final class BenchmarkFixture {
+
+    public static final int USERS = 20;
+    public static final int POSTS = 50;
+    public static final String READER = "bench_reader";
+
+    private static ConfigurableApplicationContext context;
+    private static Long samplePostId;
+
+    private BenchmarkFixture() {}
+
+    public static synchronized ConfigurableApplicationContext context() {
+        if (context == null) {
+            context = new SpringApplicationBuilder(Blog01Application.class)
+                .properties(
+                    "server.port=0",
+                    "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                    "spring.datasource.username=sa",
+                    "spring.datasource.password=",
+                    "spring.jpa.hibernate.ddl-auto=create-drop",
+                    "app.jwt.secret=benchmark-secret-key-that-is-long-enough-for-hmac-sha256",
+                    "cloudinary.cloud-name=bench",
+                    "cloudinary.api-key=bench",
+                    "cloudinary.api-secret=bench",
+                    "media.upload.max-image-size=5242880",
+                    "media.upload.max-video-size=52428800",
+                    "media.upload.max-video-duration=120",
+                    "media.upload.allowed-image-types=image/jpeg,image/png,image/gif,image/webp",
+                    "media.upload.allowed-video-types=video/mp4,video/webm,video/quicktime",
+                    "media.gc.enabled=false",
+                    // Benchmarks time post assembly, not payload cache hits
+                    "app.post-cache.enabled=false",
+                    "logging.level.root=WARN"
+                )
+                .run();
+            seed(context);
+        }
+        return context;
+    }
+
+    public static Long samplePostId() {
+        context();
+        return samplePostId;
+    }
+
+    /**
+     * Authenticate the reader for services that look up the current user.
+     * Global mode so every JMH worker thread sees it.
+     */
+    public static void authenticateReader() {
+        SecurityContextHolder.setStrategyName(
+            SecurityContextHolder.MODE_GLOBAL
+        );
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(READER, null, List.of())
+        );
+    }
+
+    private static void seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        PostRepository postRepository = context.getBean(PostRepository.class);
+        LikeRepository likeRepository = context.getBean(LikeRepository.class);
+        CommentRepository commentRepository = context.getBean(
+            CommentRepository.class
+        );
+
+        List<User> users = new ArrayList<>();
+        users.add(new User(READER, READER + "@bench.local", "x"));
+        for (int i = 1; i < USERS; i++) {
+            users.add(new User("bench_user" + i, "user" + i + "@bench.local", "x"));
+        }
+        users = userRepository.saveAll(users);
+
+        List<BlogPost> posts = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            BlogPost post = new BlogPost(
+                "Benchmark post " + i,
+                "Some content for post " + i,
+                "https://res.cloudinary.com/bench/image/upload/v1/blog-posts/images/post_" + i + ".jpg",
+                "image",
+                users.get(i % USERS)
+            );
+            posts.add(post);
+        }
+        posts = postRepository.saveAll(posts);
+
+        List<Like> likes = new ArrayList<>();
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            for (int j = 0; j < 5; j++) {
+                User user = users.get((i + j) % USERS);
+                likes.add(new Like(user, posts.get(i)));
+                comments.add(new Comment("Comment " + j, user, posts.get(i)));
+            }
+        }
+        likeRepository.saveAll(likes);
+        commentRepository.saveAll(comments);
+
+        samplePostId = posts.get(0).getId();
+    }
+}
@@ -0,0 +1,103 @@
+package com.rachnit.blog01.benchmark;
+
+import com.rachnit.blog01.config.MediaUploadProperties;
+import com.rachnit.blog01.util.MediaValidator;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * Upload validation: signature sniffing, MP4 box walking, file name cleanup
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MediaValidatorBenchmark {
+
+    private MediaValidator mediaValidator;
+    private MockMultipartFile image;
+    private MockMultipartFile video;
+
+    @Setup
+    public void setUp() {
+        MediaUploadProperties properties = new MediaUploadProperties();
+        properties.setMaxImageSize(5 * 1024 * 1024);
+        properties.setMaxVideoSize(50 * 1024 * 1024);
+        properties.setMaxVideoDuration(120);
+        properties.setAllowedImageTypes(
+            List.of("image/jpeg", "image/png", "image/gif", "image/webp")
+        );
+        properties.setAllowedVideoTypes(
+            List.of("video/mp4", "video/webm", "video/quicktime")
+        );
+        mediaValidator = new MediaValidator(properties);
+
+        byte[] jpeg = new byte[200 * 1024];
+        jpeg[0] = (byte) 0xFF;
+        jpeg[1] = (byte) 0xD8;
+        jpeg[2] = (byte) 0xFF;
+        image = new MockMultipartFile("media", "Holiday Photo (1).JPG", "image/jpeg", jpeg);
+
+        video = new MockMultipartFile("media", "clip.mp4", "video/mp4", mp4(4 * 1024 * 1024));
+    }
+
+    @Benchmark
+    public MockMultipartFile validateImage() {
+        mediaValidator.validateMediaFile(image);
+        return image;
+    }
+
+    @Benchmark
+    public MockMultipartFile validateVideo() {
+        mediaValidator.validateMediaFile(video);
+        return video;
+    }
+
+    @Benchmark
+    public String getSafeFileName() {
+        return mediaValidator.getSafeFileName(
+            "My Summer Holiday -- Day #3 (final version) copy copy.Jpeg"
+        );
+    }
+
+    /**
+     * ftyp + mdat of the given size + moov with a 30 s mvhd, moov last
+     * like most camera files, so the reader has to skip the media data
+     */
+    private static byte[] mp4(int mediaSize) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ByteBuffer ftyp = ByteBuffer.allocate(16);
+        ftyp.putInt(16).put(ascii("ftyp")).put(ascii("isom")).putInt(0x200);
+        out.writeBytes(ftyp.array());
+
+        ByteBuffer mdat = ByteBuffer.allocate(8 + mediaSize);
+        mdat.putInt(8 + mediaSize).put(ascii("mdat"));
+        out.writeBytes(mdat.array());
+
+        ByteBuffer mvhd = ByteBuffer.allocate(108);
+        mvhd.putInt(108).put(ascii("mvhd"));
+        mvhd.putInt(0); // version 0 + flags
+        mvhd.putInt(0).putInt(0); // creation / modification time
+        mvhd.putInt(1000).putInt(30_000); // timescale, duration
+        ByteBuffer moov = ByteBuffer.allocate(8 + 108);
+        moov.putInt(8 + 108).put(ascii("moov")).put(mvhd.array());
+        out.writeBytes(moov.array());
+
+        return out.toByteArray();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
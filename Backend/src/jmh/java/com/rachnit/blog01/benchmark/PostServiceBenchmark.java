@@ -0,0 +1,62 @@
+package com.rachnit.blog01.benchmark;
+
+import com.rachnit.blog01.dto.response.PostResponse;
+import com.rachnit.blog01.service.CloudinaryService;
+import com.rachnit.blog01.service.PostService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Post DTO assembly (convertToPostResponse: like/comment counts and
+ * "liked by me" per post) against the seeded H2 fixture, plus Cloudinary
+ * URL parsing used on every media release
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostServiceBenchmark {
+
+    private PostService postService;
+    private CloudinaryService cloudinaryService;
+    private Long postId;
+
+    @Setup
+    public void setUp() {
+        postService = BenchmarkFixture.context().getBean(PostService.class);
+        cloudinaryService = BenchmarkFixture.context().getBean(
+            CloudinaryService.class
+        );
+        postId = BenchmarkFixture.samplePostId();
+        BenchmarkFixture.authenticateReader();
+    }
+
+    /**
+     * One post: a single convertToPostResponse call
+     */
+    @Benchmark
+    public PostResponse getPostById() {
+        return postService.getPostById(postId);
+    }
+
+    /**
+     * Global feed: convertToPostResponse for every seeded post
+     */
+    @Benchmark
+    public List<PostResponse> getAllPosts() {
+        return postService.getAllPosts();
+    }
+
+    @Benchmark
+    public String extractPublicId() {
+        return cloudinaryService.extractPublicId(
+            "https://res.cloudinary.com/bench/video/upload/v1712345678/blog-posts/videos/1712345678_ab12cd34_clip.mp4"
+        );
+    }
+}
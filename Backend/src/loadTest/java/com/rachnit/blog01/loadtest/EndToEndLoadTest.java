@@ -0,0 +1,397 @@
+package com.rachnit.blog01.loadtest;
+
+import com.rachnit.blog01.Blog01Application;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * End-to-end load test: boots the application in this JVM on a seeded
+ * in-memory dataset, logs in synthetic users through /api/auth/login and
+ * replays a realistic request mix at a fixed arrival rate.
+ *
+ * Open loop: request i is due at start + i / rps whether or not earlier
+ * ones have finished, and latency is measured from that due time, so a
+ * slow server shows up as higher latency instead of fewer requests.
+ *
+ * Results (throughput, p50/p95/p99 per endpoint) are written as JSON and
+ * HTML to build/reports/loadtest/<commit>/. Pass a previous report.json as
+ * loadtest.baseline to get a per-endpoint comparison in the HTML.
+ *
+ * Settings (system properties, see the endToEndLoadTest task):
+ *   loadtest.users        synthetic users logged in (default 50)
+ *   loadtest.rps          target requests per second (default 50)
+ *   loadtest.duration     measured seconds (default 60)
+ *   loadtest.warmup       unmeasured seconds before that (default 10)
+ *   loadtest.mix          operation weights (default feed:40,posts:10,
+ *                         notifications:20,like:14,comment:10,post:6)
+ *   loadtest.maxInFlight  outstanding requests before new ones are dropped
+ *   loadtest.reportDir    default build/reports/loadtest
+ *   loadtest.baseline     earlier report.json to compare against
+ *   seed.*                dataset size, forwarded to the seed profile
+ */
+public class EndToEndLoadTest {
+
+    private static final Pattern TOKEN = Pattern.compile(
+        "\"token\"\\s*:\\s*\"([^\"]+)\""
+    );
+
+    private static final String DEFAULT_MIX =
+        "feed:40,posts:10,notifications:20,like:14,comment:10,post:6";
+
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+
+    private final String baseUrl;
+    private final long minPostId;
+    private final long maxPostId;
+    private final List<String> tokens = new ArrayList<>();
+    private final List<Set<Long>> likedPosts = new ArrayList<>();
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final AtomicLong postCounter = new AtomicLong();
+
+    public EndToEndLoadTest(String baseUrl, long minPostId, long maxPostId) {
+        this.baseUrl = baseUrl;
+        this.minPostId = minPostId;
+        this.maxPostId = maxPostId;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 50);
+        int rps = Integer.getInteger("loadtest.rps", 50);
+        int durationSeconds = Integer.getInteger("loadtest.duration", 60);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 10);
+        int maxInFlight = Integer.getInteger("loadtest.maxInFlight", 2_000);
+        String mix = System.getProperty("loadtest.mix", DEFAULT_MIX);
+        Path reportDir = Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+        String baseline = System.getProperty("loadtest.baseline");
+
+        ConfigurableApplicationContext context = bootApplication(users);
+        int exitCode = 0;
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            Map<String, Object> range = jdbcTemplate.queryForMap(
+                "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM posts"
+            );
+
+            EndToEndLoadTest test = new EndToEndLoadTest(
+                "http://localhost:" + port,
+                ((Number) range.get("min_id")).longValue(),
+                ((Number) range.get("max_id")).longValue()
+            );
+            test.login(users, System.getProperty("seed.password", "password123"));
+
+            LoadReport report = test.run(parseMix(mix), rps, durationSeconds, warmupSeconds, maxInFlight);
+            report.setUsers(users);
+            report.setMix(mix);
+
+            Path written = report.write(reportDir, baseline);
+            System.out.println();
+            System.out.println(report.toTable());
+            System.out.println("Report written to " + written.toAbsolutePath());
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 1;
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * Start the app with the seed profile on a random port, quietly
+     */
+    private static ConfigurableApplicationContext bootApplication(int users) {
+        // System properties beat application-dev.properties (SQL logging, DEBUG)
+        overrideIfUnset("spring.profiles.active", "dev,seed");
+        overrideIfUnset("server.port", "0");
+        overrideIfUnset("spring.jpa.show-sql", "false");
+        overrideIfUnset("logging.level.com.rachnit.blog01", "WARN");
+        overrideIfUnset("logging.level.org.springframework.security", "WARN");
+        overrideIfUnset("media.gc.enabled", "false");
+        overrideIfUnset("query-budget.mode", "off");
+
+        System.out.println("Booting application and seeding data...");
+        // Defaults only: -Dseed.posts=..., CLOUDINARY_* variables etc. win
+        return new SpringApplicationBuilder(Blog01Application.class)
+            .properties(
+                "logging.level.root=WARN",
+                "seed.users=" + Math.max(users, 5_000),
+                "seed.posts=50000",
+                "seed.likes=500000",
+                "seed.comments=100000",
+                "seed.notifications=100000",
+                "cloudinary.cloud-name=loadtest",
+                "cloudinary.api-key=loadtest",
+                "cloudinary.api-secret=loadtest",
+                "media.upload.max-image-size=5242880",
+                "media.upload.max-video-size=52428800",
+                "media.upload.max-video-duration=120",
+                "media.upload.allowed-image-types=image/jpeg,image/png,image/gif,image/webp",
+                "media.upload.allowed-video-types=video/mp4,video/webm,video/quicktime"
+            )
+            .run();
+    }
+
+    private static void overrideIfUnset(String name, String value) {
+        if (System.getProperty(name) == null) {
+            System.setProperty(name, value);
+        }
+    }
+
+    /**
+     * Log in seed_user0..N-1 through AuthController
+     */
+    void login(int users, String password) throws Exception {
+        String prefix = System.getProperty("seed.username-prefix", "seed_user");
+        for (int i = 0; i < users; i++) {
+            String body = String.format(
+                "{\"usernameOrEmail\":\"%s%d\",\"password\":\"%s\"}",
+                prefix,
+                i,
+                password
+            );
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+            Matcher matcher = TOKEN.matcher(response.body());
+            if (response.statusCode() != 200 || !matcher.find()) {
+                throw new IllegalStateException(
+                    "Login failed for " + prefix + i + " (" + response.statusCode() + ")"
+                );
+            }
+            tokens.add(matcher.group(1));
+            likedPosts.add(new HashSet<>());
+        }
+        System.out.println("Logged in " + users + " users");
+    }
+
+    LoadReport run(
+        Map<Operation, Integer> mix,
+        int rps,
+        int durationSeconds,
+        int warmupSeconds,
+        int maxInFlight
+    ) throws InterruptedException {
+        System.out.println(
+            "Replaying mix at " + rps + " req/s for " + durationSeconds + "s (" +
+            warmupSeconds + "s warmup)"
+        );
+
+        Operation[] weighted = expandWeights(mix);
+        SplittableRandom random = new SplittableRandom(7);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicLong dropped = new AtomicLong();
+
+        long interval = 1_000_000_000L / rps;
+        long start = System.nanoTime();
+        long measureFrom = start + Duration.ofSeconds(warmupSeconds).toNanos();
+        long end = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        for (long i = 0; ; i++) {
+            long due = start + i * interval;
+            if (due >= end) {
+                break;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            boolean measured = due >= measureFrom;
+            if (inFlight.get() >= maxInFlight) {
+                if (measured) {
+                    dropped.incrementAndGet();
+                }
+                continue;
+            }
+
+            int user = random.nextInt(tokens.size());
+            Operation operation = weighted[random.nextInt(weighted.length)];
+            Call call = buildCall(operation, user, random);
+            EndpointStats endpoint = stats(call.endpoint);
+
+            inFlight.incrementAndGet();
+            client
+                .sendAsync(call.request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    inFlight.decrementAndGet();
+                    if (measured) {
+                        int status = error != null ? -1 : response.statusCode();
+                        endpoint.record(status, System.nanoTime() - due);
+                    }
+                });
+        }
+
+        // Let outstanding requests finish
+        long drainDeadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(50);
+        }
+
+        return new LoadReport(startedAt, rps, durationSeconds, dropped.get(), stats);
+    }
+
+    private synchronized EndpointStats stats(String endpoint) {
+        return stats.computeIfAbsent(endpoint, name -> new EndpointStats());
+    }
+
+    private Call buildCall(Operation operation, int user, SplittableRandom random) {
+        long postId = minPostId + random.nextLong(maxPostId - minPostId + 1);
+
+        switch (operation) {
+            case FEED:
+                return new Call("GET /api/posts/feed", authorized(user, "/api/posts/feed").GET().build());
+            case POSTS:
+                return new Call("GET /api/posts/{id}", authorized(user, "/api/posts/" + postId).GET().build());
+            case NOTIFICATIONS:
+                return new Call(
+                    "GET /api/notifications/summary",
+                    authorized(user, "/api/notifications/summary").GET().build()
+                );
+            case LIKE:
+                // Toggle, so a user never likes the same post twice
+                Set<Long> userLikes = likedPosts.get(user);
+                boolean unlike;
+                synchronized (userLikes) {
+                    unlike = !userLikes.add(postId);
+                    if (unlike) {
+                        userLikes.remove(postId);
+                    }
+                }
+                return unlike
+                    ? new Call(
+                        "DELETE /api/posts/{id}/unlike",
+                        authorized(user, "/api/posts/" + postId + "/unlike").DELETE().build()
+                    )
+                    : new Call(
+                        "POST /api/posts/{id}/like",
+                        authorized(user, "/api/posts/" + postId + "/like")
+                            .POST(HttpRequest.BodyPublishers.noBody())
+                            .build()
+                    );
+            case COMMENT:
+                return new Call(
+                    "POST /api/posts/{id}/comments",
+                    json(authorized(user, "/api/posts/" + postId + "/comments"),
+                        "{\"content\":\"Load test comment\"}")
+                );
+            case POST:
+                long n = postCounter.incrementAndGet();
+                return new Call(
+                    "POST /api/posts",
+                    json(authorized(user, "/api/posts"), String.format(
+                        "{\"title\":\"Load test post %d\",\"content\":\"Generated by the end to end load test\"," +
+                        "\"mediaUrl\":\"https://res.cloudinary.com/loadtest/image/upload/v1/blog-posts/images/loadtest_%d.jpg\"," +
+                        "\"mediaType\":\"image\"}",
+                        n,
+                        n
+                    ))
+                );
+            default:
+                throw new IllegalArgumentException("Unknown operation " + operation);
+        }
+    }
+
+    private HttpRequest.Builder authorized(int user, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(60))
+            .header("Authorization", "Bearer " + tokens.get(user));
+    }
+
+    private static HttpRequest json(HttpRequest.Builder builder, String body) {
+        return builder
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static Operation[] expandWeights(Map<Operation, Integer> mix) {
+        List<Operation> expanded = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                expanded.add(operation);
+            }
+        });
+        if (expanded.isEmpty()) {
+            throw new IllegalArgumentException("Request mix is empty");
+        }
+        return expanded.toArray(new Operation[0]);
+    }
+
+    enum Operation {
+        FEED,
+        POSTS,
+        NOTIFICATIONS,
+        LIKE,
+        COMMENT,
+        POST,
+    }
+
+    private static class Call {
+
+        final String endpoint;
+        final HttpRequest request;
+
+        Call(String endpoint, HttpRequest request) {
+            this.endpoint = endpoint;
+            this.request = request;
+        }
+    }
+
+    /**
+     * Latencies of successful calls plus failure counts for one endpoint
+     */
+    static class EndpointStats {
+
+        final LatencyRecorder latencies = new LatencyRecorder();
+        final AtomicLong clientErrors = new AtomicLong();
+        final AtomicLong serverErrors = new AtomicLong();
+
+        void record(int status, long nanos) {
+            if (status >= 200 && status < 300) {
+                latencies.record(nanos);
+            } else if (status >= 400 && status < 500) {
+                clientErrors.incrementAndGet();
+            } else {
+                serverErrors.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.rachnit.blog01.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects raw latency samples (nanoseconds) and computes percentiles.
+ * Thread-safe; samples are kept in a growing array and sorted on read.
+ */
+public class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size;
+
+    public synchronized void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    public synchronized int count() {
+        return size;
+    }
+
+    /**
+     * Merge several recorders, e.g. one per client thread
+     */
+    public static LatencyRecorder merge(LatencyRecorder... recorders) {
+        LatencyRecorder merged = new LatencyRecorder();
+        for (LatencyRecorder recorder : recorders) {
+            synchronized (recorder) {
+                for (int i = 0; i < recorder.size; i++) {
+                    merged.record(recorder.samples[i]);
+                }
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Latency at the given quantile (0.99 = p99), in milliseconds
+     */
+    public synchronized double percentileMillis(double quantile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(quantile * size) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    public synchronized double maxMillis() {
+        long max = 0;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, samples[i]);
+        }
+        return max / 1_000_000.0;
+    }
+}
@@ -0,0 +1,232 @@
+package com.rachnit.blog01.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Result of an end-to-end load test run, written as report.json (stable
+ * key order, so two runs diff cleanly) and report.html.
+ */
+public class LoadReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT)
+        .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    private final LocalDateTime startedAt;
+    private final int targetRps;
+    private final int durationSeconds;
+    private final long dropped;
+    private final Map<String, Map<String, Object>> endpoints = new TreeMap<>();
+    private final String commit;
+    private int users;
+    private String mix;
+
+    public LoadReport(
+        LocalDateTime startedAt,
+        int targetRps,
+        int durationSeconds,
+        long dropped,
+        Map<String, EndToEndLoadTest.EndpointStats> stats
+    ) {
+        this.startedAt = startedAt;
+        this.targetRps = targetRps;
+        this.durationSeconds = durationSeconds;
+        this.dropped = dropped;
+        this.commit = currentCommit();
+
+        stats.forEach((endpoint, endpointStats) -> {
+            LatencyRecorder latencies = endpointStats.latencies;
+            long errors = endpointStats.clientErrors.get() + endpointStats.serverErrors.get();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", latencies.count() + errors);
+            row.put("clientErrors", endpointStats.clientErrors.get());
+            row.put("serverErrors", endpointStats.serverErrors.get());
+            row.put("throughput", round((double) latencies.count() / durationSeconds));
+            row.put("p50", round(latencies.percentileMillis(0.50)));
+            row.put("p95", round(latencies.percentileMillis(0.95)));
+            row.put("p99", round(latencies.percentileMillis(0.99)));
+            row.put("max", round(latencies.maxMillis()));
+            endpoints.put(endpoint, row);
+        });
+    }
+
+    public void setUsers(int users) {
+        this.users = users;
+    }
+
+    public void setMix(String mix) {
+        this.mix = mix;
+    }
+
+    /**
+     * Write report.json and report.html under reportDir/<commit>/,
+     * comparing against a baseline report.json when one is given
+     */
+    public Path write(Path reportDir, String baselinePath) throws IOException {
+        String runName = commit != null
+            ? commit
+            : startedAt.format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path dir = reportDir.resolve(runName);
+        Files.createDirectories(dir);
+
+        Map<String, Object> json = toJson();
+        MAPPER.writeValue(dir.resolve("report.json").toFile(), json);
+
+        JsonNode baseline = baselinePath != null
+            ? MAPPER.readTree(Path.of(baselinePath).toFile())
+            : null;
+        Files.writeString(dir.resolve("report.html"), toHtml(baseline), StandardCharsets.UTF_8);
+
+        return dir;
+    }
+
+    private Map<String, Object> toJson() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("commit", commit);
+        json.put("startedAt", startedAt.toString());
+        json.put("targetRps", targetRps);
+        json.put("achievedRps", round(totalThroughput()));
+        json.put("durationSeconds", durationSeconds);
+        json.put("users", users);
+        json.put("mix", mix);
+        json.put("dropped", dropped);
+        json.put("endpoints", endpoints);
+        return json;
+    }
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(
+            "%-32s %9s %6s %6s %8s %9s %9s %9s%n",
+            "endpoint", "requests", "4xx", "5xx", "req/s", "p50 ms", "p95 ms", "p99 ms"
+        ));
+        endpoints.forEach((endpoint, row) ->
+            table.append(String.format(
+                "%-32s %9d %6d %6d %8.1f %9.1f %9.1f %9.1f%n",
+                endpoint,
+                row.get("requests"),
+                row.get("clientErrors"),
+                row.get("serverErrors"),
+                row.get("throughput"),
+                row.get("p50"),
+                row.get("p95"),
+                row.get("p99")
+            ))
+        );
+        table.append(String.format(
+            "Target %d req/s, achieved %.1f req/s, dropped %d%n",
+            targetRps,
+            totalThroughput(),
+            dropped
+        ));
+        return table.toString();
+    }
+
+    private String toHtml(JsonNode baseline) {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html><html><head><meta charset=\"utf-8\">")
+            .append("<title>Load test ").append(escape(String.valueOf(commit))).append("</title>")
+            .append("<style>")
+            .append("body{font-family:sans-serif;margin:2em}")
+            .append("table{border-collapse:collapse}")
+            .append("th,td{border:1px solid #ccc;padding:4px 10px;text-align:right}")
+            .append("th:first-child,td:first-child{text-align:left}")
+            .append(".worse{color:#b00020}.better{color:#1b7f3b}")
+            .append("</style></head><body>");
+
+        html.append("<h1>Load test report</h1><p>")
+            .append("Commit <b>").append(escape(String.valueOf(commit))).append("</b>, started ")
+            .append(escape(startedAt.toString())).append("<br>")
+            .append(users).append(" users, target ").append(targetRps).append(" req/s for ")
+            .append(durationSeconds).append("s, achieved ")
+            .append(String.format("%.1f", totalThroughput()))
+            .append(" req/s, dropped ").append(dropped).append("<br>")
+            .append("Mix: ").append(escape(String.valueOf(mix))).append("</p>");
+
+        if (baseline != null) {
+            html.append("<p>Compared with commit <b>")
+                .append(escape(baseline.path("commit").asText()))
+                .append("</b> (p99 change in brackets)</p>");
+        }
+
+        html.append("<table><tr><th>Endpoint</th><th>Requests</th><th>4xx</th><th>5xx</th>")
+            .append("<th>req/s</th><th>p50 ms</th><th>p95 ms</th><th>p99 ms</th><th>max ms</th></tr>");
+
+        endpoints.forEach((endpoint, row) -> {
+            html.append("<tr><td>").append(escape(endpoint)).append("</td>")
+                .append("<td>").append(row.get("requests")).append("</td>")
+                .append("<td>").append(row.get("clientErrors")).append("</td>")
+                .append("<td>").append(row.get("serverErrors")).append("</td>")
+                .append("<td>").append(row.get("throughput")).append("</td>")
+                .append("<td>").append(row.get("p50")).append("</td>")
+                .append("<td>").append(row.get("p95")).append("</td>")
+                .append("<td>").append(row.get("p99"));
+
+            JsonNode before = baseline != null
+                ? baseline.path("endpoints").path(endpoint).path("p99")
+                : null;
+            if (before != null && before.isNumber() && before.asDouble() > 0) {
+                double change = ((Double) row.get("p99") - before.asDouble()) / before.asDouble() * 100;
+                html.append(" <span class=\"").append(change > 0 ? "worse" : "better").append("\">(")
+                    .append(String.format("%+.0f%%", change)).append(")</span>");
+            }
+
+            html.append("</td><td>").append(row.get("max")).append("</td></tr>");
+        });
+
+        html.append("</table></body></html>\n");
+        return html.toString();
+    }
+
+    /**
+     * Successful requests across all endpoints; errors are not throughput
+     */
+    private double totalThroughput() {
+        double total = 0;
+        for (Map<String, Object> row : endpoints.values()) {
+            total += (Double) row.get("throughput");
+        }
+        return total;
+    }
+
+    /**
+     * Short hash of the checked-out commit, or null outside a git checkout
+     */
+    private static String currentCommit() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD")
+                .redirectErrorStream(true)
+                .start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return process.waitFor() == 0 && !output.isEmpty() ? output : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
+    private static String escape(String value) {
+        return value
+            .replace("&", "&amp;")
+            .replace("<", "&lt;")
+            .replace(">", "&gt;")
+            .replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,364 @@
+package com.rachnit.blog01.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load driver for a running backend.
+ *
+ * Each of `concurrency` clients sends requests back to back for
+ * `duration` seconds and records the latency of every response, then
+ * throughput and percentiles are printed per scenario. Run it once against
+ * a server started normally and once with the "virtual" profile to compare
+ * the two threading modes.
+ *
+ * Settings (system properties, see the loadTest task in build.gradle):
+ *   loadtest.baseUrl      http://localhost:8080
+ *   loadtest.username     user to log in as (registered if missing)
+ *   loadtest.password
+ *   loadtest.scenarios    comma separated: feed, upload
+ *   loadtest.concurrency  parallel clients (default 50)
+ *   loadtest.duration     seconds per scenario (default 30)
+ *   loadtest.warmup       seconds of unrecorded warmup (default 5)
+ *   loadtest.uploadFile   image or video sent by the upload scenario
+ *   loadtest.label        name printed with the results, e.g. "virtual"
+ */
+public class LoadTestRunner {
+
+    private static final Pattern TOKEN = Pattern.compile(
+        "\"token\"\\s*:\\s*\"([^\"]+)\""
+    );
+
+    private final HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final int durationSeconds;
+    private final int warmupSeconds;
+    private final String label;
+    private String token;
+
+    public LoadTestRunner(
+        String baseUrl,
+        int concurrency,
+        int durationSeconds,
+        int warmupSeconds,
+        String label
+    ) {
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+        this.durationSeconds = durationSeconds;
+        this.warmupSeconds = warmupSeconds;
+        this.label = label;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestRunner runner = new LoadTestRunner(
+            System.getProperty("loadtest.baseUrl", "http://localhost:8080"),
+            Integer.getInteger("loadtest.concurrency", 50),
+            Integer.getInteger("loadtest.duration", 30),
+            Integer.getInteger("loadtest.warmup", 5),
+            System.getProperty("loadtest.label", "default")
+        );
+
+        runner.login(
+            System.getProperty("loadtest.username", "loadtest_user"),
+            System.getProperty("loadtest.password", "loadtest-password")
+        );
+
+        String scenarios = System.getProperty("loadtest.scenarios", "feed");
+        String uploadFile = System.getProperty("loadtest.uploadFile");
+
+        List<Result> results = new ArrayList<>();
+        for (String scenario : scenarios.split(",")) {
+            switch (scenario.trim()) {
+                case "feed":
+                    results.add(runner.run("feed", runner.feedRequest()));
+                    break;
+                case "upload":
+                    if (uploadFile == null) {
+                        throw new IllegalArgumentException(
+                            "loadtest.uploadFile is required for the upload scenario"
+                        );
+                    }
+                    results.add(
+                        runner.run("upload", runner.uploadRequest(Path.of(uploadFile)))
+                    );
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown scenario: " + scenario);
+            }
+        }
+
+        System.out.println();
+        System.out.println(Result.HEADER);
+        for (Result result : results) {
+            System.out.println(result.format(runner.label));
+        }
+    }
+
+    /**
+     * Log in, registering the user first if needed
+     */
+    void login(String username, String password) throws Exception {
+        String loginBody = String.format(
+            "{\"usernameOrEmail\":\"%s\",\"password\":\"%s\"}",
+            username,
+            password
+        );
+        HttpResponse<String> response = postJson("/api/auth/login", loginBody);
+
+        if (response.statusCode() != 200) {
+            String registerBody = String.format(
+                "{\"username\":\"%s\",\"email\":\"%s@loadtest.local\",\"password\":\"%s\"}",
+                username,
+                username,
+                password
+            );
+            response = postJson("/api/auth/register", registerBody);
+        }
+
+        Matcher matcher = TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException(
+                "Login failed (" + response.statusCode() + "): " + response.body()
+            );
+        }
+        token = matcher.group(1);
+    }
+
+    RequestFactory feedRequest() {
+        return () -> authorized("/api/posts").GET().build();
+    }
+
+    RequestFactory uploadRequest(Path file) throws IOException {
+        byte[] content = Files.readAllBytes(file);
+        String contentType = Files.probeContentType(file);
+        if (contentType == null) {
+            contentType = "application/octet-stream";
+        }
+        String fileName = file.getFileName().toString();
+        String mediaType = contentType;
+
+        return () -> {
+            MultipartBody body = new MultipartBody()
+                .field("title", "Load test")
+                .field("content", "Load test upload")
+                .file("media", fileName, mediaType, content);
+            return authorized("/api/posts")
+                .header("Content-Type", body.contentType())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.build()))
+                .build();
+        };
+    }
+
+    Result run(String scenario, RequestFactory requests) throws InterruptedException {
+        System.out.println(
+            "Running '" + scenario + "' with " + concurrency + " clients for " +
+            durationSeconds + "s (" + warmupSeconds + "s warmup)"
+        );
+
+        long warmupEnd = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long end = warmupEnd + Duration.ofSeconds(durationSeconds).toNanos();
+
+        LatencyRecorder[] recorders = new LatencyRecorder[concurrency];
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger shed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            recorders[i] = recorder;
+            clients.execute(() -> {
+                try {
+                    while (System.nanoTime() < end) {
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = client
+                                .send(requests.create(), HttpResponse.BodyHandlers.discarding())
+                                .statusCode();
+                        } catch (IOException e) {
+                            status = -1;
+                        }
+                        long elapsed = System.nanoTime() - start;
+
+                        if (start < warmupEnd) {
+                            continue;
+                        }
+                        if (status == 503) {
+                            shed.incrementAndGet();
+                        } else if (status < 200 || status >= 300) {
+                            errors.incrementAndGet();
+                        } else {
+                            recorder.record(elapsed);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+        clients.shutdown();
+
+        return Result.of(scenario, recorders, errors.get(), shed.get(), durationSeconds);
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofMinutes(2))
+            .header("Authorization", "Bearer " + token);
+    }
+
+    private HttpResponse<String> postJson(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    interface RequestFactory {
+        HttpRequest create();
+    }
+
+    static class Result {
+
+        static final String HEADER = String.format(
+            "%-10s %-8s %9s %7s %7s %10s %9s %9s %9s",
+            "mode", "scenario", "requests", "errors", "503s", "req/s", "p50 ms", "p95 ms", "p99 ms"
+        );
+
+        final String scenario;
+        final int requests;
+        final int errors;
+        final int shed;
+        final double throughput;
+        final double p50;
+        final double p95;
+        final double p99;
+
+        private Result(
+            String scenario,
+            int requests,
+            int errors,
+            int shed,
+            double throughput,
+            double p50,
+            double p95,
+            double p99
+        ) {
+            this.scenario = scenario;
+            this.requests = requests;
+            this.errors = errors;
+            this.shed = shed;
+            this.throughput = throughput;
+            this.p50 = p50;
+            this.p95 = p95;
+            this.p99 = p99;
+        }
+
+        static Result of(
+            String scenario,
+            LatencyRecorder[] recorders,
+            int errors,
+            int shed,
+            int durationSeconds
+        ) {
+            LatencyRecorder all = LatencyRecorder.merge(recorders);
+            return new Result(
+                scenario,
+                all.count(),
+                errors,
+                shed,
+                (double) all.count() / durationSeconds,
+                all.percentileMillis(0.50),
+                all.percentileMillis(0.95),
+                all.percentileMillis(0.99)
+            );
+        }
+
+        String format(String label) {
+            return String.format(
+                "%-10s %-8s %9d %7d %7d %10.1f %9.1f %9.1f %9.1f",
+                label, scenario, requests, errors, shed, throughput, p50, p95, p99
+            );
+        }
+    }
+
+    /**
+     * Minimal multipart/form-data encoder
+     */
+    static class MultipartBody {
+
+        private final String boundary = "----loadtest" + UUID.randomUUID();
+        private final List<byte[]> parts = new ArrayList<>();
+
+        MultipartBody field(String name, String value) {
+            parts.add(ascii(
+                "--" + boundary + "\r\n" +
+                "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n" +
+                value + "\r\n"
+            ));
+            return this;
+        }
+
+        MultipartBody file(String name, String fileName, String contentType, byte[] content) {
+            parts.add(ascii(
+                "--" + boundary + "\r\n" +
+                "Content-Disposition: form-data; name=\"" + name +
+                "\"; filename=\"" + fileName + "\"\r\n" +
+                "Content-Type: " + contentType + "\r\n\r\n"
+            ));
+            parts.add(content);
+            parts.add(ascii("\r\n"));
+            return this;
+        }
+
+        String contentType() {
+            return "multipart/form-data; boundary=" + boundary;
+        }
+
+        byte[] build() {
+            parts.add(ascii("--" + boundary + "--\r\n"));
+            int length = 0;
+            for (byte[] part : parts) {
+                length += part.length;
+            }
+            byte[] body = new byte[length];
+            int offset = 0;
+            for (byte[] part : parts) {
+                System.arraycopy(part, 0, body, offset, part.length);
+                offset += part.length;
+            }
+            return body;
+        }
+
+        private static byte[] ascii(String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.rachnit.blog01.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * Background worker pool for media processing (image renditions...)
+     * Kept small: these jobs are CPU heavy and must not starve request threads.
+     * Workers are virtual threads when spring.threads.virtual.enabled is set
+     * (Java 21+), the pool size still bounds how many run at once.
+     * Queued jobs hold a temp file path, not image bytes, so a full queue
+     * costs little heap. Past that submissions are rejected (AbortPolicy),
+     * callers skip the optional work.
+     */
+    @Bean(name = "mediaTaskExecutor")
+    public Executor mediaTaskExecutor(Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("media-");
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.initialize();
+        return executor;
+    }
+}
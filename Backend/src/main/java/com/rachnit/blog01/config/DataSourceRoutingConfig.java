@@ -0,0 +1,70 @@
+package com.rachnit.blog01.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.rachnit.blog01.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Primary + read replica, only when app.datasource.replica.jdbc-url is set.
+ * Otherwise Spring Boot's single datasource is used as before.
+ *
+ * The primary pool comes from spring.datasource.* (and .hikari.*), the
+ * replica pool from app.datasource.replica.* (any Hikari setting, e.g.
+ * jdbc-url, username, password, maximum-pool-size).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "jdbc-url")
+public class DataSourceRoutingConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties
+            .initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties(prefix = "app.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * The datasource JPA, Flyway and JdbcTemplate see. Lazy so the route
+     * is chosen on first use, once the transaction is marked read-only.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        DataSourceProperties properties,
+        DataSourceRoutingProperties routingProperties,
+        MeterRegistry meterRegistry
+    ) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+            primaryDataSource(properties),
+            replicaDataSource(),
+            routingProperties.getStickyWindow(),
+            meterRegistry
+        );
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,19 @@
+package com.rachnit.blog01.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    // After a user's write commits, their read-only transactions stay on the
+    // primary this long so they see their own change despite replica lag
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    // Getters and setters
+    public Duration getStickyWindow() { return stickyWindow; }
+    public void setStickyWindow(Duration stickyWindow) { this.stickyWindow = stickyWindow; }
+}
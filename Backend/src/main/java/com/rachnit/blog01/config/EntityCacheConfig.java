@@ -0,0 +1,71 @@
+package com.rachnit.blog01.config;
+
+import java.net.URI;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+@Configuration
+public class EntityCacheConfig {
+
+    /**
+     * Second-level cache for User (by id and by username) and BlogPost,
+     * in Caffeine through JCache. Hit/miss counts per region are exported
+     * as hibernate_second_level_cache_requests (hibernate-micrometer).
+     */
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(EntityCacheProperties properties) {
+        return hibernateProperties -> {
+            if (!properties.isEnabled()) {
+                hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                return;
+            }
+
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, createCacheManager(properties));
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private CacheManager createCacheManager(EntityCacheProperties properties) {
+        CaffeineCachingProvider provider = new CaffeineCachingProvider();
+        // Own URI so this manager isn't shared with any other JCache user
+        CacheManager cacheManager = provider.getCacheManager(
+            URI.create("blog01-entity-cache"),
+            getClass().getClassLoader()
+        );
+
+        // Region names match @Cache / @NaturalIdCache on User and BlogPost
+        createRegion(cacheManager, "users", properties.getUserMaxSize(), properties);
+        createRegion(cacheManager, "users-by-username", properties.getUserMaxSize(), properties);
+        createRegion(cacheManager, "posts", properties.getPostMaxSize(), properties);
+        return cacheManager;
+    }
+
+    private void createRegion(
+        CacheManager cacheManager,
+        String name,
+        long maxSize,
+        EntityCacheProperties properties
+    ) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(properties.getTtl().toNanos()));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
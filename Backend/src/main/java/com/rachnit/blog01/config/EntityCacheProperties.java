@@ -0,0 +1,37 @@
+package com.rachnit.blog01.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.entity-cache")
+public class EntityCacheProperties {
+
+    // Hibernate second-level cache for User and BlogPost
+    private boolean enabled = true;
+
+    // Users kept in memory (also bounds the username -> id cache)
+    private long userMaxSize = 10_000;
+
+    // Posts kept in memory
+    private long postMaxSize = 50_000;
+
+    // Entries expire this long after being written. Bounds how stale another
+    // app instance can be, since each instance has its own in-memory cache
+    private Duration ttl = Duration.ofMinutes(10);
+
+    // Getters and setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getUserMaxSize() { return userMaxSize; }
+    public void setUserMaxSize(long userMaxSize) { this.userMaxSize = userMaxSize; }
+
+    public long getPostMaxSize() { return postMaxSize; }
+    public void setPostMaxSize(long postMaxSize) { this.postMaxSize = postMaxSize; }
+
+    public Duration getTtl() { return ttl; }
+    public void setTtl(Duration ttl) { this.ttl = ttl; }
+}
@@ -0,0 +1,34 @@
+package com.rachnit.blog01.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "media.deletion")
+public class MediaDeletionProperties {
+
+    // How often the worker looks for due deletions
+    private Duration pollInterval = Duration.ofSeconds(30);
+
+    // Failed attempts before a task goes to the dead-letter list
+    private int maxAttempts = 8;
+
+    // Retry delay doubles from initialBackoff up to maxBackoff
+    private Duration initialBackoff = Duration.ofMinutes(1);
+    private Duration maxBackoff = Duration.ofHours(6);
+
+    // Getters and setters
+    public Duration getPollInterval() { return pollInterval; }
+    public void setPollInterval(Duration pollInterval) { this.pollInterval = pollInterval; }
+
+    public int getMaxAttempts() { return maxAttempts; }
+    public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
+
+    public Duration getInitialBackoff() { return initialBackoff; }
+    public void setInitialBackoff(Duration initialBackoff) { this.initialBackoff = initialBackoff; }
+
+    public Duration getMaxBackoff() { return maxBackoff; }
+    public void setMaxBackoff(Duration maxBackoff) { this.maxBackoff = maxBackoff; }
+}
@@ -0,0 +1,42 @@
+package com.rachnit.blog01.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "media.gc")
+public class MediaGcProperties {
+
+    // Run the scheduled orphan scan at all
+    private boolean enabled = true;
+
+    // When to run it (default: every night at 03:30)
+    private String cron = "0 30 3 * * *";
+
+    // Files younger than this are never touched (upload may not be committed yet)
+    private Duration gracePeriod = Duration.ofHours(24);
+
+    // Only report orphans, don't delete them
+    private boolean dryRun = false;
+
+    // Assets listed per Cloudinary API call (max 500)
+    private int pageSize = 500;
+
+    // Getters and setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public String getCron() { return cron; }
+    public void setCron(String cron) { this.cron = cron; }
+
+    public Duration getGracePeriod() { return gracePeriod; }
+    public void setGracePeriod(Duration gracePeriod) { this.gracePeriod = gracePeriod; }
+
+    public boolean isDryRun() { return dryRun; }
+    public void setDryRun(boolean dryRun) { this.dryRun = dryRun; }
+
+    public int getPageSize() { return pageSize; }
+    public void setPageSize(int pageSize) { this.pageSize = pageSize; }
+}
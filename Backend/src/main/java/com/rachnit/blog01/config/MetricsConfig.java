@@ -0,0 +1,21 @@
+package com.rachnit.blog01.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.rachnit.blog01.metrics.QueryCounter;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Count every SQL statement so QueryCountFilter can record queries per request
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return properties ->
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+}
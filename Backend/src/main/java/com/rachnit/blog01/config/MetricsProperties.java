@@ -0,0 +1,16 @@
+package com.rachnit.blog01.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.metrics")
+public class MetricsProperties {
+
+    // Serve /actuator/prometheus without auth (dev only), otherwise admins only
+    private boolean publicScrape = false;
+
+    // Getters and setters
+    public boolean isPublicScrape() { return publicScrape; }
+    public void setPublicScrape(boolean publicScrape) { this.publicScrape = publicScrape; }
+}
@@ -0,0 +1,20 @@
+package com.rachnit.blog01.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.platform-stats")
+public class PlatformStatsProperties {
+
+    // How often the dashboard counters are recounted from the tables (also
+    // once at startup). Writes keep them current in between; this corrects
+    // drift from changes made outside the app (seeding, manual SQL)
+    private Duration recomputeInterval = Duration.ofMinutes(15);
+
+    // Getters and setters
+    public Duration getRecomputeInterval() { return recomputeInterval; }
+    public void setRecomputeInterval(Duration recomputeInterval) { this.recomputeInterval = recomputeInterval; }
+}
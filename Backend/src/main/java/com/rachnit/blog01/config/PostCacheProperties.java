@@ -0,0 +1,31 @@
+package com.rachnit.blog01.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.post-cache")
+public class PostCacheProperties {
+
+    // Cache assembled GET /api/posts/{id} payloads
+    private boolean enabled = true;
+
+    // Posts kept in memory
+    private long maxSize = 10_000;
+
+    // Safety net: entries are invalidated on every change, this only bounds
+    // staleness for changes made by another instance
+    private Duration ttl = Duration.ofSeconds(30);
+
+    // Getters and setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getMaxSize() { return maxSize; }
+    public void setMaxSize(long maxSize) { this.maxSize = maxSize; }
+
+    public Duration getTtl() { return ttl; }
+    public void setTtl(Duration ttl) { this.ttl = ttl; }
+}
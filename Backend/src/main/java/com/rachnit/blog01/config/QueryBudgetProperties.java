@@ -0,0 +1,49 @@
+package com.rachnit.blog01.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "query-budget")
+public class QueryBudgetProperties {
+
+    public enum Mode {
+        // Only count statements (blog.http.queries)
+        OFF,
+        // Log endpoints that go over budget with their most repeated queries
+        LOG,
+        // Fail the request, for tests
+        ENFORCE
+    }
+
+    private Mode mode = Mode.LOG;
+
+    // SQL statements one API request may run unless its endpoint has its own budget
+    private int defaultBudget = 20;
+
+    // Budgets per uri template, e.g. query-budget.endpoints[/api/admin/users]=5
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    // How many of the most repeated query shapes to log
+    private int shapesLogged = 3;
+
+    public int budgetFor(String uriTemplate) {
+        return endpoints.getOrDefault(uriTemplate, defaultBudget);
+    }
+
+    // Getters and setters
+    public Mode getMode() { return mode; }
+    public void setMode(Mode mode) { this.mode = mode; }
+
+    public int getDefaultBudget() { return defaultBudget; }
+    public void setDefaultBudget(int defaultBudget) { this.defaultBudget = defaultBudget; }
+
+    public Map<String, Integer> getEndpoints() { return endpoints; }
+    public void setEndpoints(Map<String, Integer> endpoints) { this.endpoints = endpoints; }
+
+    public int getShapesLogged() { return shapesLogged; }
+    public void setShapesLogged(int shapesLogged) { this.shapesLogged = shapesLogged; }
+}
@@ -0,0 +1,11 @@
+package com.rachnit.blog01.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (media deletion queue...)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
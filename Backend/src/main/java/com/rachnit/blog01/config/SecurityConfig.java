@@ -36,6 +36,9 @@ public class SecurityConfig {
     @Autowired
     private DatabaseProperties databaseProperties;
 
+    @Autowired
+    private MetricsProperties metricsProperties;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -57,9 +60,18 @@ public class SecurityConfig {
                 authz
                     .requestMatchers("/api/auth/**")
                     .permitAll()
+                    .requestMatchers("/actuator/health")
+                    .permitAll()
                     .requestMatchers("/api/admin/**")
                     .hasRole("ADMIN");
 
+                // Metrics reveal endpoints, traffic and user counts
+                if (metricsProperties.isPublicScrape()) {
+                    authz.requestMatchers("/actuator/prometheus").permitAll();
+                } else {
+                    authz.requestMatchers("/actuator/prometheus").hasRole("ADMIN");
+                }
+
                 if (databaseProperties.isEnableH2Console()) {
                     authz.requestMatchers("/h2-console/**").permitAll();
                 }
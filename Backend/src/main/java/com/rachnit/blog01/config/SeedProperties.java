@@ -0,0 +1,78 @@
+package com.rachnit.blog01.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scale and shape of the synthetic dataset written by the "seed" profile
+ */
+@Component
+@ConfigurationProperties(prefix = "seed")
+public class SeedProperties {
+
+    // Row counts
+    private int users = 10_000;
+    private int posts = 100_000;
+    private long likes = 1_000_000;
+    private long comments = 200_000;
+    private long notifications = 200_000;
+
+    // Average number of accounts each user follows
+    private int averageFollows = 30;
+
+    // Zipf exponent: higher = more skew towards a few popular users and posts
+    private double skew = 1.1;
+
+    // Posts are spread over this many past days
+    private int days = 365;
+
+    private int batchSize = 5_000;
+    private long randomSeed = 42;
+
+    // Every seeded user logs in with this password
+    private String password = "password123";
+    private String usernamePrefix = "seed_user";
+
+    // Stop the application once seeding is done (for a persistent database)
+    private boolean exitWhenDone = false;
+
+    // Getters and setters
+    public int getUsers() { return users; }
+    public void setUsers(int users) { this.users = users; }
+
+    public int getPosts() { return posts; }
+    public void setPosts(int posts) { this.posts = posts; }
+
+    public long getLikes() { return likes; }
+    public void setLikes(long likes) { this.likes = likes; }
+
+    public long getComments() { return comments; }
+    public void setComments(long comments) { this.comments = comments; }
+
+    public long getNotifications() { return notifications; }
+    public void setNotifications(long notifications) { this.notifications = notifications; }
+
+    public int getAverageFollows() { return averageFollows; }
+    public void setAverageFollows(int averageFollows) { this.averageFollows = averageFollows; }
+
+    public double getSkew() { return skew; }
+    public void setSkew(double skew) { this.skew = skew; }
+
+    public int getDays() { return days; }
+    public void setDays(int days) { this.days = days; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public long getRandomSeed() { return randomSeed; }
+    public void setRandomSeed(long randomSeed) { this.randomSeed = randomSeed; }
+
+    public String getPassword() { return password; }
+    public void setPassword(String password) { this.password = password; }
+
+    public String getUsernamePrefix() { return usernamePrefix; }
+    public void setUsernamePrefix(String usernamePrefix) { this.usernamePrefix = usernamePrefix; }
+
+    public boolean isExitWhenDone() { return exitWhenDone; }
+    public void setExitWhenDone(boolean exitWhenDone) { this.exitWhenDone = exitWhenDone; }
+}
@@ -0,0 +1,42 @@
+package com.rachnit.blog01.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "media.upload-executor")
+public class UploadExecutorProperties {
+
+    // Uploads sent to Cloudinary at the same time
+    private int threads = 4;
+
+    // Uploads allowed to wait for a free thread before we start rejecting
+    private int queueCapacity = 8;
+
+    // Upper bound on the total size of queued + running uploads
+    private long maxBytesInTransit = 256L * 1024 * 1024;
+
+    // How long a request waits for its upload to finish
+    private Duration timeout = Duration.ofMinutes(2);
+
+    // Sent back in the Retry-After header when an upload is rejected
+    private Duration retryAfter = Duration.ofSeconds(10);
+
+    // Getters and setters
+    public int getThreads() { return threads; }
+    public void setThreads(int threads) { this.threads = threads; }
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+    public long getMaxBytesInTransit() { return maxBytesInTransit; }
+    public void setMaxBytesInTransit(long maxBytesInTransit) { this.maxBytesInTransit = maxBytesInTransit; }
+
+    public Duration getTimeout() { return timeout; }
+    public void setTimeout(Duration timeout) { this.timeout = timeout; }
+
+    public Duration getRetryAfter() { return retryAfter; }
+    public void setRetryAfter(Duration retryAfter) { this.retryAfter = retryAfter; }
+}
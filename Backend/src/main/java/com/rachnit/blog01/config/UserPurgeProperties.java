@@ -0,0 +1,37 @@
+package com.rachnit.blog01.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.user-purge")
+public class UserPurgeProperties {
+
+    // How often the worker looks for deleted users still to purge
+    private Duration pollInterval = Duration.ofSeconds(5);
+
+    // Rows deleted per transaction, bounds lock time and transaction size
+    private int chunkSize = 500;
+
+    // A worker run stops after this long and continues on the next poll, so
+    // one large purge doesn't hold the scheduler thread other jobs share
+    private Duration maxRunTime = Duration.ofSeconds(10);
+
+    // Failed chunks in a row before a purge is marked FAILED (admins can retry it)
+    private int maxAttempts = 5;
+
+    // Getters and setters
+    public Duration getPollInterval() { return pollInterval; }
+    public void setPollInterval(Duration pollInterval) { this.pollInterval = pollInterval; }
+
+    public int getChunkSize() { return chunkSize; }
+    public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+
+    public Duration getMaxRunTime() { return maxRunTime; }
+    public void setMaxRunTime(Duration maxRunTime) { this.maxRunTime = maxRunTime; }
+
+    public int getMaxAttempts() { return maxAttempts; }
+    public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
+}
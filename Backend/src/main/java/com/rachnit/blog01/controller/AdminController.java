@@ -1,23 +1,48 @@
 package com.rachnit.blog01.controller;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rachnit.blog01.dto.request.BulkModerationRequest;
 import com.rachnit.blog01.dto.response.AdminPostResponse;
 import com.rachnit.blog01.dto.response.AdminUserResponse;
+import com.rachnit.blog01.dto.response.BulkModerationResponse;
+import com.rachnit.blog01.dto.response.MediaDeletionTaskResponse;
+import com.rachnit.blog01.dto.response.MediaGcReport;
+import com.rachnit.blog01.dto.response.PageResponse;
+import com.rachnit.blog01.dto.response.UploadExecutorStats;
+import com.rachnit.blog01.dto.response.UserPurgeResponse;
 import com.rachnit.blog01.dto.response.ReportResponse;
+import com.rachnit.blog01.enums.ExportDataset;
+import com.rachnit.blog01.enums.ExportFormat;
+import com.rachnit.blog01.service.AdminExportService;
 import com.rachnit.blog01.service.AdminService;
+import com.rachnit.blog01.service.BulkModerationService;
 import com.rachnit.blog01.service.ReportService;
+import com.rachnit.blog01.util.JsonArrayWriter;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 
 
 @RestController
@@ -30,6 +55,15 @@ public class AdminController {
     @Autowired
     private ReportService reportService;
 
+    @Autowired
+    private AdminExportService adminExportService;
+
+    @Autowired
+    private BulkModerationService bulkModerationService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     // ============================================
     // USER MANAGEMENT ENDPOINTS
     // ============================================   
@@ -43,6 +77,34 @@ public class AdminController {
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * Paged mode: GET /api/admin/users?page=0&size=20&sort=followers&direction=desc&banned=true&role=USER
+     * sort is created (default), followers or reports; banned and role are optional filters
+     */
+    @GetMapping(value = "/users", params = "page")
+    public ResponseEntity<PageResponse<AdminUserResponse>> getUsersPage(
+            @RequestParam int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "created") String sort,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) Boolean banned,
+            @RequestParam(required = false) String role) {
+        PageResponse<AdminUserResponse> users =
+            adminService.getUsersPage(page, size, sort, direction, banned, role);
+        return ResponseEntity.ok(users);
+    }
+
+    /**
+     * Streaming mode: GET /api/admin/users?stream=true
+     * Same JSON array, written row by row while the database is read
+     */
+    @GetMapping(value = "/users", params = "stream=true")
+    public void streamAllUsers(HttpServletResponse response) throws IOException {
+        JsonArrayWriter writer = openJsonArray(response);
+        adminService.streamAllUsers(writer::write);
+        writer.finish();
+    }
+
     /**
      * Get specific user details
     */
@@ -67,6 +129,18 @@ public class AdminController {
         return ResponseEntity.ok(user);
     }
 
+    /**
+     * Ban or unban many users: {"action": "BAN", "ids": [...], "reason": "..."}
+     * or a join-date filter instead of ids ("createdAfter", "createdBefore").
+     * Returns the outcome for every id.
+     */
+    @PostMapping("/users/bulk")
+    public ResponseEntity<BulkModerationResponse> moderateUsers(
+            @Valid @RequestBody BulkModerationRequest request) {
+        BulkModerationResponse response = bulkModerationService.moderateUsers(request);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Unban a user
      */
@@ -77,12 +151,40 @@ public class AdminController {
     }
 
     /**
-     * Delete a user permanently
+     * Delete a user: 202 with the purge that removes their content
+     * (progress at /users/purges/{purgeId})
      */
     @DeleteMapping("/users/{userId}")
-    public ResponseEntity<Map<String, String>> deleteUser(@PathVariable Long userId) {
-        Map<String, String> response = adminService.deleteUser(userId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<UserPurgeResponse> deleteUser(@PathVariable Long userId) {
+        UserPurgeResponse response = adminService.deleteUser(userId);
+        return ResponseEntity.accepted().body(response);
+    }
+
+    /**
+     * Background purges of deleted users, newest first
+     */
+    @GetMapping("/users/purges")
+    public ResponseEntity<List<UserPurgeResponse>> getUserPurges() {
+        List<UserPurgeResponse> purges = adminService.getUserPurges();
+        return ResponseEntity.ok(purges);
+    }
+
+    /**
+     * Progress of one purge
+     */
+    @GetMapping("/users/purges/{purgeId}")
+    public ResponseEntity<UserPurgeResponse> getUserPurge(@PathVariable Long purgeId) {
+        UserPurgeResponse purge = adminService.getUserPurge(purgeId);
+        return ResponseEntity.ok(purge);
+    }
+
+    /**
+     * Resume a failed purge
+     */
+    @PostMapping("/users/purges/{purgeId}/retry")
+    public ResponseEntity<UserPurgeResponse> retryUserPurge(@PathVariable Long purgeId) {
+        UserPurgeResponse purge = adminService.retryUserPurge(purgeId);
+        return ResponseEntity.ok(purge);
     }
 
     // ============================================
@@ -98,6 +200,16 @@ public class AdminController {
         return ResponseEntity.ok(posts);
     }
 
+    /**
+     * Streaming mode: GET /api/admin/posts?stream=true
+     */
+    @GetMapping(value = "/posts", params = "stream=true")
+    public void streamAllPosts(HttpServletResponse response) throws IOException {
+        JsonArrayWriter writer = openJsonArray(response);
+        adminService.streamAllPosts(writer::write);
+        writer.finish();
+    }
+
     /**
      * Get specific post details
      */
@@ -122,6 +234,18 @@ public class AdminController {
         return ResponseEntity.ok(post);
     }
 
+    /**
+     * Hide, unhide or delete many posts: {"action": "HIDE", "ids": [...], "reason": "..."}
+     * or a filter instead of ids, e.g. {"action": "DELETE", "authorId": 42,
+     * "createdAfter": "2025-01-01T12:00:00"}. Returns the outcome for every id.
+     */
+    @PostMapping("/posts/bulk")
+    public ResponseEntity<BulkModerationResponse> moderatePosts(
+            @Valid @RequestBody BulkModerationRequest request) {
+        BulkModerationResponse response = bulkModerationService.moderatePosts(request);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Unhide a post
      */
@@ -153,6 +277,16 @@ public class AdminController {
         return ResponseEntity.ok(reports);
     }
 
+    /**
+     * Streaming mode: GET /api/admin/reports?stream=true
+     */
+    @GetMapping(value = "/reports", params = "stream=true")
+    public void streamAllReports(HttpServletResponse response) throws IOException {
+        JsonArrayWriter writer = openJsonArray(response);
+        reportService.streamAllReports(writer::write);
+        writer.finish();
+    }
+
     /**
      * Get reports by status (PENDING, RESOLVED, DISMISSED)
      */
@@ -204,6 +338,93 @@ public class AdminController {
         return ResponseEntity.ok(stats);
     }
 
+    // ============================================
+    // MEDIA STORAGE ENDPOINTS
+    // ============================================
+
+    /**
+     * Get media deletions that failed all retries (dead-letter list)
+     */
+    @GetMapping("/media/deletions/failed")
+    public ResponseEntity<List<MediaDeletionTaskResponse>> getFailedMediaDeletions() {
+        List<MediaDeletionTaskResponse> tasks = adminService.getFailedMediaDeletions();
+        return ResponseEntity.ok(tasks);
+    }
+
+    /**
+     * Retry a failed media deletion
+     */
+    @PostMapping("/media/deletions/{taskId}/retry")
+    public ResponseEntity<MediaDeletionTaskResponse> retryMediaDeletion(@PathVariable Long taskId) {
+        MediaDeletionTaskResponse task = adminService.retryMediaDeletion(taskId);
+        return ResponseEntity.ok(task);
+    }
+
+    /**
+     * Get in-flight uploads, queue depth and bytes in transit
+     */
+    @GetMapping("/media/uploads/stats")
+    public ResponseEntity<UploadExecutorStats> getUploadStats() {
+        UploadExecutorStats stats = adminService.getUploadStats();
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Get the report of the last orphaned media collection
+     */
+    @GetMapping("/media/gc/last-run")
+    public ResponseEntity<MediaGcReport> getLastMediaGcReport() {
+        MediaGcReport report = adminService.getLastMediaGcReport();
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Scan storage for orphaned media now (dryRun=true only reports)
+     */
+    @PostMapping("/media/gc/run")
+    public ResponseEntity<MediaGcReport> runMediaGc(@RequestParam(defaultValue = "false") boolean dryRun) {
+        MediaGcReport report = adminService.runMediaGc(dryRun);
+        return ResponseEntity.ok(report);
+    }
+
+    // ============================================
+    // DATA EXPORT
+    // ============================================
+
+    /**
+     * Download a full export as a gzip file, written while the rows are read
+     *
+     * GET /api/admin/export/{users|posts|reports}?format=csv|ndjson
+     */
+    @GetMapping("/export/{dataset}")
+    public void export(@PathVariable String dataset,
+                       @RequestParam(defaultValue = "csv") String format,
+                       HttpServletResponse response) throws IOException {
+        // Validate before anything is written
+        ExportDataset exportDataset = ExportDataset.from(dataset);
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        String filename = exportDataset.getName() + "-" +
+            LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) +
+            "." + exportFormat.getExtension() + ".gz";
+        response.setContentType("application/gzip");
+        response.setHeader(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(filename).build().toString()
+        );
+
+        try {
+            adminExportService.export(exportDataset, exportFormat, response.getOutputStream());
+        } catch (RuntimeException e) {
+            // Nothing sent yet (e.g. the query failed): drop the gzip header
+            // and download headers so the error handler can answer normally
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw e;
+        }
+    }
+
     // ============================================
     // DASHBOARD & STATISTICS
     // ============================================
@@ -216,4 +437,15 @@ public class AdminController {
         Map<String, Object> stats = adminService.getDashboardStatistics();
         return ResponseEntity.ok(stats);
     }
-}
\ No newline at end of file
+
+    /**
+     * Start a streamed JSON array body. Once the first rows are flushed the
+     * response is committed, so a failure after that cuts the array short
+     * (invalid JSON) instead of turning into an error response.
+     */
+    private JsonArrayWriter openJsonArray(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        return new JsonArrayWriter(objectMapper, response.getOutputStream());
+    }
+}
@@ -11,10 +11,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.rachnit.blog01.dto.request.CreateCommentRequest;
 import com.rachnit.blog01.dto.response.CommentResponse;
 import com.rachnit.blog01.service.CommentService;
+import com.rachnit.blog01.service.ContentVersionService;
 
 import jakarta.validation.Valid;
 
@@ -24,6 +26,9 @@ public class CommentController {
     
     @Autowired
     private CommentService commentService;
+
+    @Autowired
+    private ContentVersionService contentVersionService;
     
     /**
      * Create a comment on a post
@@ -36,12 +41,14 @@ public class CommentController {
     }
     
     /**
-     * Get all comments for a post
+     * Get all comments for a post, 304 if unchanged
     */
     @GetMapping("/posts/{postId}/comments")
-    public ResponseEntity<List<CommentResponse>> getPostComments(@PathVariable Long postId) {
-        List<CommentResponse> comments = commentService.getPostComments(postId);
-        return ResponseEntity.ok(comments);
+    public ResponseEntity<List<CommentResponse>> getPostComments(@PathVariable Long postId,
+                                                                 WebRequest request) {
+        return ConditionalGet.respond(request,
+                contentVersionService.commentsETag(postId),
+                () -> commentService.getPostComments(postId));
     }
 
     /**
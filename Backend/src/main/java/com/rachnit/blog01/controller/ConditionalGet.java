@@ -0,0 +1,29 @@
+package com.rachnit.blog01.controller;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional GET: answer If-None-Match with 304 when the ETag still
+ * matches, and only build the body otherwise.
+ */
+final class ConditionalGet {
+
+    // Browsers may keep the response but must revalidate it on every use;
+    // private because responses are per user
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {}
+
+    static <T> ResponseEntity<T> respond(WebRequest request, String eTag, Supplier<T> body) {
+        // Also sets the ETag header on the response
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(body.get());
+    }
+}
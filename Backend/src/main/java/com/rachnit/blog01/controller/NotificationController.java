@@ -9,9 +9,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.rachnit.blog01.dto.response.NotificationResponse;
 import com.rachnit.blog01.dto.response.NotificationSummaryResponse;
+import com.rachnit.blog01.service.ContentVersionService;
 import com.rachnit.blog01.service.NotificationService;
 
 @RestController
@@ -21,22 +23,27 @@ public class NotificationController {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private ContentVersionService contentVersionService;
+
     /**
-     * Get unread notifications for current user
+     * Get unread notifications for current user, 304 if unchanged
      */
     @GetMapping
-    public ResponseEntity<List<NotificationResponse>> getMyNotifications() {
-        List<NotificationResponse> notifications = notificationService.getMyNotifications();
-        return ResponseEntity.ok(notifications);
+    public ResponseEntity<List<NotificationResponse>> getMyNotifications(WebRequest request) {
+        return ConditionalGet.respond(request,
+                contentVersionService.notificationsETag(),
+                notificationService::getMyNotifications);
     }
 
      /**
-     * Get unread count for notification badge
+     * Get unread count for notification badge, 304 if unchanged (polled)
      */
     @GetMapping("/summary")
-    public ResponseEntity<NotificationSummaryResponse> getNotificationSummary() {
-        NotificationSummaryResponse summary = notificationService.getNotificationSummary();
-        return ResponseEntity.ok(summary);
+    public ResponseEntity<NotificationSummaryResponse> getNotificationSummary(WebRequest request) {
+        return ConditionalGet.respond(request,
+                contentVersionService.notificationsETag(),
+                notificationService::getNotificationSummary);
     }
 
      /**
@@ -2,13 +2,21 @@ package com.rachnit.blog01.controller;
 
 import com.rachnit.blog01.dto.request.CreatePostRequest;
 import com.rachnit.blog01.dto.request.UpdatePostRequest;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.rachnit.blog01.dto.response.PostResponse;
+import com.rachnit.blog01.dto.response.PostSummaryResponse;
+import com.rachnit.blog01.service.ContentVersionService;
 import com.rachnit.blog01.service.PostService;
 import jakarta.validation.Valid;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,6 +26,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 @RestController
@@ -27,22 +36,110 @@ public class PostController {
     @Autowired
     private PostService postService;
 
+    @Autowired
+    private ContentVersionService contentVersionService;
+
     /**
-     * Get all posts (main feed)
+     * Get all posts (main feed), 304 if unchanged since If-None-Match
      */
     @GetMapping
-    public ResponseEntity<List<PostResponse>> getAllPosts() {
-        List<PostResponse> posts = postService.getAllPosts();
-        return ResponseEntity.ok(posts);
+    public ResponseEntity<List<PostResponse>> getAllPosts(WebRequest request) {
+        return ConditionalGet.respond(
+            request,
+            contentVersionService.postsETag(),
+            postService::getAllPosts
+        );
     }
 
     /**
-     * Get personalized feed (posts from users you follow)
+     * Get personalized feed (posts from users you follow), 304 if unchanged
      */
     @GetMapping("/feed")
-    public ResponseEntity<List<PostResponse>> getPersonalizedFeed() {
-        List<PostResponse> posts = postService.getPersonalizedFeed();
-        return ResponseEntity.ok(posts);
+    public ResponseEntity<List<PostResponse>> getPersonalizedFeed(
+        WebRequest request
+    ) {
+        return ConditionalGet.respond(
+            request,
+            contentVersionService.feedETag(),
+            postService::getPersonalizedFeed
+        );
+    }
+
+    /**
+     * List views: excerpt instead of full content, read in one query.
+     * Optional ?fields=id,title,excerpt,... returns only those fields.
+     *
+     * GET /api/posts/summary
+     * GET /api/posts/feed/summary
+     * GET /api/posts/my-posts/summary
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<MappingJacksonValue> getAllPostSummaries(
+        @RequestParam(value = "fields", required = false) String fields,
+        WebRequest request
+    ) {
+        SimpleFilterProvider filters = fieldsFilter(fields);
+        return ConditionalGet.respond(
+            request,
+            contentVersionService.postsETag(),
+            () -> withFilters(postService.getAllPostSummaries(), filters)
+        );
+    }
+
+    @GetMapping("/feed/summary")
+    public ResponseEntity<MappingJacksonValue> getPersonalizedFeedSummaries(
+        @RequestParam(value = "fields", required = false) String fields,
+        WebRequest request
+    ) {
+        SimpleFilterProvider filters = fieldsFilter(fields);
+        return ConditionalGet.respond(
+            request,
+            contentVersionService.feedETag(),
+            () -> withFilters(postService.getPersonalizedFeedSummaries(), filters)
+        );
+    }
+
+    @GetMapping("/my-posts/summary")
+    public ResponseEntity<MappingJacksonValue> getMyPostSummaries(
+        @RequestParam(value = "fields", required = false) String fields,
+        WebRequest request
+    ) {
+        SimpleFilterProvider filters = fieldsFilter(fields);
+        return ConditionalGet.respond(
+            request,
+            contentVersionService.postsETag(),
+            () -> withFilters(postService.getMyPostSummaries(), filters)
+        );
+    }
+
+    /**
+     * Filter for the ?fields= selector (all fields when absent).
+     * Checked before the ETag so a bad selector is a plain 400.
+     */
+    private SimpleFilterProvider fieldsFilter(String fields) {
+        SimpleBeanPropertyFilter filter = SimpleBeanPropertyFilter.serializeAll();
+        if (fields != null && !fields.isBlank()) {
+            Set<String> selected = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toSet());
+            for (String field : selected) {
+                if (!PostSummaryResponse.FIELDS.contains(field)) {
+                    throw new RuntimeException("Unknown field: " + field);
+                }
+            }
+            filter = SimpleBeanPropertyFilter.filterOutAllExcept(selected);
+        }
+        return new SimpleFilterProvider().addFilter(PostSummaryResponse.FILTER, filter);
+    }
+
+    private MappingJacksonValue withFilters(
+        List<PostSummaryResponse> summaries,
+        SimpleFilterProvider filters
+    ) {
+        MappingJacksonValue value = new MappingJacksonValue(summaries);
+        value.setFilters(filters);
+        return value;
     }
 
     /**
@@ -81,12 +178,18 @@ public class PostController {
     }
 
     /**
-     * Get specific post by ID
+     * Get specific post by ID, 304 if unchanged
      */
     @GetMapping("/{id}")
-    public ResponseEntity<PostResponse> getPostById(@PathVariable Long id) {
-        PostResponse post = postService.getPostById(id);
-        return ResponseEntity.ok(post);
+    public ResponseEntity<PostResponse> getPostById(
+        @PathVariable Long id,
+        WebRequest request
+    ) {
+        return ConditionalGet.respond(
+            request,
+            contentVersionService.postETag(id),
+            () -> postService.getPostById(id)
+        );
     }
 
     /**
@@ -137,11 +240,14 @@ public class PostController {
     }
 
     /**
-     * Get current user's posts
+     * Get current user's posts, 304 if unchanged
      */
     @GetMapping("/my-posts")
-    public ResponseEntity<List<PostResponse>> getMyPosts() {
-        List<PostResponse> posts = postService.getMyPosts();
-        return ResponseEntity.ok(posts);
+    public ResponseEntity<List<PostResponse>> getMyPosts(WebRequest request) {
+        return ConditionalGet.respond(
+            request,
+            contentVersionService.postsETag(),
+            postService::getMyPosts
+        );
     }
 }
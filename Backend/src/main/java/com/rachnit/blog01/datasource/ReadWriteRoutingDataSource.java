@@ -0,0 +1,151 @@
+package com.rachnit.blog01.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends @Transactional(readOnly = true) work to the replica pool and
+ * everything else (writes, non-transactional calls) to the primary.
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy: the route is picked
+ * when the first statement runs, after the transaction's read-only flag
+ * is known. A user whose write committed less than stickyWindow ago is
+ * kept on the primary for reads too (read-your-writes).
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA,
+    }
+
+    // Past this many remembered writers, expired entries are swept on write
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    // Last committed write per username, as System.nanoTime()
+    private final Map<String, Long> recentWriters = new ConcurrentHashMap<>();
+
+    // Set by onPrimary(): reads that must see the latest commit
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final long stickyWindowNanos;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter stickyRoutes;
+
+    public ReadWriteRoutingDataSource(
+        DataSource primary,
+        DataSource replica,
+        Duration stickyWindow,
+        MeterRegistry meterRegistry
+    ) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.stickyWindowNanos = stickyWindow.toNanos();
+        this.primaryRoutes = meterRegistry.counter("blog.datasource.routes", "route", "primary");
+        this.replicaRoutes = meterRegistry.counter("blog.datasource.routes", "route", "replica");
+        this.stickyRoutes = meterRegistry.counter("blog.datasource.routes", "route", "sticky");
+    }
+
+    /**
+     * Run work whose reads must not come from a lagging replica, e.g. loads
+     * into a cache shared by all users. Only connections opened inside it
+     * are routed, so the work should start its own transaction.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = PRIMARY_READS.get();
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_READS.remove();
+            } else {
+                PRIMARY_READS.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (
+            !TransactionSynchronizationManager.isActualTransactionActive() ||
+            PRIMARY_READS.get() != null
+        ) {
+            primaryRoutes.increment();
+            return Route.PRIMARY;
+        }
+
+        String username = currentUsername();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (username != null) {
+                rememberWriteOnCommit(username);
+            }
+            primaryRoutes.increment();
+            return Route.PRIMARY;
+        }
+
+        if (username != null && wroteRecently(username)) {
+            stickyRoutes.increment();
+            return Route.PRIMARY;
+        }
+
+        replicaRoutes.increment();
+        return Route.REPLICA;
+    }
+
+    private void rememberWriteOnCommit(String username) {
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    long now = System.nanoTime();
+                    recentWriters.put(username, now);
+                    if (recentWriters.size() > SWEEP_THRESHOLD) {
+                        recentWriters.values().removeIf(
+                            lastWrite -> now - lastWrite >= stickyWindowNanos
+                        );
+                    }
+                }
+            }
+        );
+    }
+
+    private boolean wroteRecently(String username) {
+        Long lastWrite = recentWriters.get(username);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.nanoTime() - lastWrite < stickyWindowNanos) {
+            return true;
+        }
+        // Expired: drop it so the map only holds users active right now
+        recentWriters.remove(username, lastWrite);
+        return false;
+    }
+
+    private static String currentUsername() {
+        Authentication authentication =
+            SecurityContextHolder.getContext().getAuthentication();
+        if (
+            authentication == null ||
+            !authentication.isAuthenticated() ||
+            authentication instanceof AnonymousAuthenticationToken
+        ) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
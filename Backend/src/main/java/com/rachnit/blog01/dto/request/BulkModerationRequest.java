@@ -0,0 +1,50 @@
+package com.rachnit.blog01.dto.request;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Targets are either ids, or a filter (authorId and/or a createdAt range,
+ * e.g. all posts by user X in the last hour). Users are filtered by join date.
+ */
+public class BulkModerationRequest {
+
+    @NotBlank(message = "Action is required")
+    private String action; // posts: HIDE, UNHIDE, DELETE; users: BAN, UNBAN
+
+    private List<Long> ids;
+
+    private Long authorId; // posts only
+
+    private LocalDateTime createdAfter;  // inclusive
+
+    private LocalDateTime createdBefore; // exclusive
+
+    @Size(max = 500, message = "Reason must be at most 500 characters")
+    private String reason; // required for HIDE and BAN
+
+    // Constructors
+    public BulkModerationRequest() {}
+
+    // Getters and setters
+    public String getAction() { return action; }
+    public void setAction(String action) { this.action = action; }
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+
+    public Long getAuthorId() { return authorId; }
+    public void setAuthorId(Long authorId) { this.authorId = authorId; }
+
+    public LocalDateTime getCreatedAfter() { return createdAfter; }
+    public void setCreatedAfter(LocalDateTime createdAfter) { this.createdAfter = createdAfter; }
+
+    public LocalDateTime getCreatedBefore() { return createdBefore; }
+    public void setCreatedBefore(LocalDateTime createdBefore) { this.createdBefore = createdBefore; }
+
+    public String getReason() { return reason; }
+    public void setReason(String reason) { this.reason = reason; }
+}
@@ -0,0 +1,48 @@
+package com.rachnit.blog01.dto.response;
+
+import java.util.List;
+
+public class BulkModerationResponse {
+
+    private String action;
+    private int targeted;  // ids given, or matched by the filter
+    private int succeeded; // UPDATED or DELETED
+    private int skipped;   // SKIPPED or NOT_FOUND
+    private int failed;    // their chunk was rolled back
+    private List<BulkModerationResult> results;
+
+    // Constructors
+    public BulkModerationResponse() {}
+
+    public BulkModerationResponse(String action, List<BulkModerationResult> results) {
+        this.action = action;
+        this.targeted = results.size();
+        this.results = results;
+        for (BulkModerationResult result : results) {
+            switch (result.getOutcome()) {
+                case "UPDATED", "DELETED" -> succeeded++;
+                case "FAILED" -> failed++;
+                default -> skipped++;
+            }
+        }
+    }
+
+    // Getters and setters
+    public String getAction() { return action; }
+    public void setAction(String action) { this.action = action; }
+
+    public int getTargeted() { return targeted; }
+    public void setTargeted(int targeted) { this.targeted = targeted; }
+
+    public int getSucceeded() { return succeeded; }
+    public void setSucceeded(int succeeded) { this.succeeded = succeeded; }
+
+    public int getSkipped() { return skipped; }
+    public void setSkipped(int skipped) { this.skipped = skipped; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public List<BulkModerationResult> getResults() { return results; }
+    public void setResults(List<BulkModerationResult> results) { this.results = results; }
+}
@@ -0,0 +1,30 @@
+package com.rachnit.blog01.dto.response;
+
+/**
+ * Outcome of a bulk action for one id
+ */
+public class BulkModerationResult {
+
+    private Long id;
+    private String outcome; // UPDATED, DELETED, SKIPPED, NOT_FOUND, FAILED
+    private String message; // why it was skipped or failed
+
+    // Constructors
+    public BulkModerationResult() {}
+
+    public BulkModerationResult(Long id, String outcome, String message) {
+        this.id = id;
+        this.outcome = outcome;
+        this.message = message;
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getOutcome() { return outcome; }
+    public void setOutcome(String outcome) { this.outcome = outcome; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
@@ -0,0 +1,64 @@
+package com.rachnit.blog01.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+public class MediaGcReport {
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startedAt;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime finishedAt;
+
+    private String status; // RUNNING, COMPLETED, FAILED
+    private boolean dryRun;
+
+    private long referencedAssets; // distinct public IDs still in use
+    private long scannedAssets;    // assets listed from storage
+    private long orphansFound;
+    private long orphansDeleted;   // queued for deletion (0 on dry runs)
+    private long reclaimedBytes;   // size of the orphans (freeable bytes on dry runs)
+    private String error;
+
+    // Constructors
+    public MediaGcReport() {}
+
+    public MediaGcReport(boolean dryRun) {
+        this.startedAt = LocalDateTime.now();
+        this.status = "RUNNING";
+        this.dryRun = dryRun;
+    }
+
+    // Getters and setters
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public boolean isDryRun() { return dryRun; }
+    public void setDryRun(boolean dryRun) { this.dryRun = dryRun; }
+
+    public long getReferencedAssets() { return referencedAssets; }
+    public void setReferencedAssets(long referencedAssets) { this.referencedAssets = referencedAssets; }
+
+    public long getScannedAssets() { return scannedAssets; }
+    public void setScannedAssets(long scannedAssets) { this.scannedAssets = scannedAssets; }
+
+    public long getOrphansFound() { return orphansFound; }
+    public void setOrphansFound(long orphansFound) { this.orphansFound = orphansFound; }
+
+    public long getOrphansDeleted() { return orphansDeleted; }
+    public void setOrphansDeleted(long orphansDeleted) { this.orphansDeleted = orphansDeleted; }
+
+    public long getReclaimedBytes() { return reclaimedBytes; }
+    public void setReclaimedBytes(long reclaimedBytes) { this.reclaimedBytes = reclaimedBytes; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -12,6 +12,12 @@ public class PostResponse {
     private String mediaUrl;
     private String mediaType;
 
+    // Image renditions (null until generated, or for videos)
+    private String thumbnailUrl;
+    private String cardUrl;
+    private String fullUrl;
+    private String blurPlaceholder;
+
     private Long authorId;
     private String authorUsername;
 
@@ -132,6 +138,38 @@ public class PostResponse {
         this.mediaType = mediaType;
     }
 
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    public String getCardUrl() {
+        return cardUrl;
+    }
+
+    public void setCardUrl(String cardUrl) {
+        this.cardUrl = cardUrl;
+    }
+
+    public String getFullUrl() {
+        return fullUrl;
+    }
+
+    public void setFullUrl(String fullUrl) {
+        this.fullUrl = fullUrl;
+    }
+
+    public String getBlurPlaceholder() {
+        return blurPlaceholder;
+    }
+
+    public void setBlurPlaceholder(String blurPlaceholder) {
+        this.blurPlaceholder = blurPlaceholder;
+    }
+
     public Long getAuthorId() {
         return authorId;
     }
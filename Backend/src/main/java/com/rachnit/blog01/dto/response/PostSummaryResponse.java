@@ -0,0 +1,131 @@
+package com.rachnit.blog01.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * List/card representation of a post: an excerpt instead of the full content.
+ * Serialized through the "postSummaryFields" filter so clients can ask for a
+ * subset of the fields (?fields=id,title,excerpt).
+ */
+@JsonFilter(PostSummaryResponse.FILTER)
+public class PostSummaryResponse {
+
+    public static final String FILTER = "postSummaryFields";
+
+    // JSON names accepted by ?fields=
+    public static final Set<String> FIELDS = Set.of(
+        "id",
+        "title",
+        "excerpt",
+        "truncated",
+        "mediaUrl",
+        "mediaType",
+        "thumbnailUrl",
+        "cardUrl",
+        "blurPlaceholder",
+        "authorId",
+        "authorUsername",
+        "likesCount",
+        "isLiked",
+        "commentsCount",
+        "createdAt",
+        "updatedAt"
+    );
+
+    private Long id;
+    private String title;
+
+    // Start of the content, cut at a word boundary
+    private String excerpt;
+
+    // True when the excerpt is shorter than the content
+    private boolean truncated;
+
+    private String mediaUrl;
+    private String mediaType;
+
+    // Image renditions (null until generated, or for videos)
+    private String thumbnailUrl;
+    private String cardUrl;
+    private String blurPlaceholder;
+
+    private Long authorId;
+    private String authorUsername;
+
+    private long likesCount;
+
+    @JsonProperty("isLiked")
+    private boolean isLiked;
+
+    private long commentsCount;
+
+    @JsonFormat(
+        shape = JsonFormat.Shape.STRING,
+        pattern = "yyyy-MM-dd'T'HH:mm:ss"
+    )
+    private LocalDateTime createdAt;
+
+    @JsonFormat(
+        shape = JsonFormat.Shape.STRING,
+        pattern = "yyyy-MM-dd'T'HH:mm:ss"
+    )
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public PostSummaryResponse() {}
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getExcerpt() { return excerpt; }
+    public void setExcerpt(String excerpt) { this.excerpt = excerpt; }
+
+    public boolean isTruncated() { return truncated; }
+    public void setTruncated(boolean truncated) { this.truncated = truncated; }
+
+    public String getMediaUrl() { return mediaUrl; }
+    public void setMediaUrl(String mediaUrl) { this.mediaUrl = mediaUrl; }
+
+    public String getMediaType() { return mediaType; }
+    public void setMediaType(String mediaType) { this.mediaType = mediaType; }
+
+    public String getThumbnailUrl() { return thumbnailUrl; }
+    public void setThumbnailUrl(String thumbnailUrl) { this.thumbnailUrl = thumbnailUrl; }
+
+    public String getCardUrl() { return cardUrl; }
+    public void setCardUrl(String cardUrl) { this.cardUrl = cardUrl; }
+
+    public String getBlurPlaceholder() { return blurPlaceholder; }
+    public void setBlurPlaceholder(String blurPlaceholder) { this.blurPlaceholder = blurPlaceholder; }
+
+    public Long getAuthorId() { return authorId; }
+    public void setAuthorId(Long authorId) { this.authorId = authorId; }
+
+    public String getAuthorUsername() { return authorUsername; }
+    public void setAuthorUsername(String authorUsername) { this.authorUsername = authorUsername; }
+
+    public long getLikesCount() { return likesCount; }
+    public void setLikesCount(long likesCount) { this.likesCount = likesCount; }
+
+    // Named on the getter too, so it isn't also written as "liked"
+    @JsonProperty("isLiked")
+    public boolean isLiked() { return isLiked; }
+    public void setLiked(boolean liked) { isLiked = liked; }
+
+    public long getCommentsCount() { return commentsCount; }
+    public void setCommentsCount(long commentsCount) { this.commentsCount = commentsCount; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,43 @@
+package com.rachnit.blog01.dto.response;
+
+public class UploadExecutorStats {
+
+    private int inFlightUploads;
+    private int queuedUploads;
+    private long bytesInTransit;
+    private long rejectedUploads;
+    private int threads;
+    private int queueCapacity;
+
+    // Constructors
+    public UploadExecutorStats() {}
+
+    public UploadExecutorStats(int inFlightUploads, int queuedUploads, long bytesInTransit,
+                               long rejectedUploads, int threads, int queueCapacity) {
+        this.inFlightUploads = inFlightUploads;
+        this.queuedUploads = queuedUploads;
+        this.bytesInTransit = bytesInTransit;
+        this.rejectedUploads = rejectedUploads;
+        this.threads = threads;
+        this.queueCapacity = queueCapacity;
+    }
+
+    // Getters and setters
+    public int getInFlightUploads() { return inFlightUploads; }
+    public void setInFlightUploads(int inFlightUploads) { this.inFlightUploads = inFlightUploads; }
+
+    public int getQueuedUploads() { return queuedUploads; }
+    public void setQueuedUploads(int queuedUploads) { this.queuedUploads = queuedUploads; }
+
+    public long getBytesInTransit() { return bytesInTransit; }
+    public void setBytesInTransit(long bytesInTransit) { this.bytesInTransit = bytesInTransit; }
+
+    public long getRejectedUploads() { return rejectedUploads; }
+    public void setRejectedUploads(long rejectedUploads) { this.rejectedUploads = rejectedUploads; }
+
+    public int getThreads() { return threads; }
+    public void setThreads(int threads) { this.threads = threads; }
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+}
@@ -0,0 +1,92 @@
+package com.rachnit.blog01.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Progress of a user purge (see UserPurgeService)
+ */
+public class UserPurgeResponse {
+
+    private Long purgeId;
+    private Long userId;
+    private String username;
+    private String status; // PENDING, DONE, FAILED
+    private String phase;
+    private long rowsDeleted;
+    private long postsDeleted;
+    private int attempts;
+    private String lastError;
+    private String message;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime finishedAt;
+
+    // Constructors
+    public UserPurgeResponse() {}
+
+    public UserPurgeResponse(Long purgeId, Long userId, String username, String status,
+                             String phase, long rowsDeleted, long postsDeleted,
+                             int attempts, String lastError, LocalDateTime createdAt,
+                             LocalDateTime updatedAt, LocalDateTime finishedAt) {
+        this.purgeId = purgeId;
+        this.userId = userId;
+        this.username = username;
+        this.status = status;
+        this.phase = phase;
+        this.rowsDeleted = rowsDeleted;
+        this.postsDeleted = postsDeleted;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.finishedAt = finishedAt;
+    }
+
+    // Getters and setters
+    public Long getPurgeId() { return purgeId; }
+    public void setPurgeId(Long purgeId) { this.purgeId = purgeId; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getPhase() { return phase; }
+    public void setPhase(String phase) { this.phase = phase; }
+
+    public long getRowsDeleted() { return rowsDeleted; }
+    public void setRowsDeleted(long rowsDeleted) { this.rowsDeleted = rowsDeleted; }
+
+    public long getPostsDeleted() { return postsDeleted; }
+    public void setPostsDeleted(long postsDeleted) { this.postsDeleted = postsDeleted; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+}
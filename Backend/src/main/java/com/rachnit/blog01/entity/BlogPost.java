@@ -6,16 +6,29 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
-@Table(name = "posts")
+@Table(
+    name = "posts",
+    indexes = {
+        @Index(
+            name = "idx_posts_author_created_at",
+            columnList = "author_id, createdAt"
+        ),
+        @Index(name = "idx_posts_created_at", columnList = "createdAt"),
+    }
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "posts")
 public class BlogPost {
 
     @Id
@@ -34,6 +47,20 @@ public class BlogPost {
     @Column(nullable = false, length = 50)
     private String mediaType;
 
+    // Resized image renditions, filled in by the background image pipeline
+    @Column(length = 1000)
+    private String thumbnailUrl;
+
+    @Column(length = 1000)
+    private String cardUrl;
+
+    @Column(length = 1000)
+    private String fullUrl;
+
+    // Tiny inline image (data URI) shown blurred while the real one loads
+    @Column(columnDefinition = "TEXT")
+    private String blurPlaceholder;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
@@ -120,6 +147,48 @@ public class BlogPost {
         this.mediaType = mediaType;
     }
 
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    public String getCardUrl() {
+        return cardUrl;
+    }
+
+    public void setCardUrl(String cardUrl) {
+        this.cardUrl = cardUrl;
+    }
+
+    public String getFullUrl() {
+        return fullUrl;
+    }
+
+    public void setFullUrl(String fullUrl) {
+        this.fullUrl = fullUrl;
+    }
+
+    public String getBlurPlaceholder() {
+        return blurPlaceholder;
+    }
+
+    public void setBlurPlaceholder(String blurPlaceholder) {
+        this.blurPlaceholder = blurPlaceholder;
+    }
+
+    /**
+     * Drop renditions, e.g. after the post's media was replaced
+     */
+    public void clearRenditions() {
+        this.thumbnailUrl = null;
+        this.cardUrl = null;
+        this.fullUrl = null;
+        this.blurPlaceholder = null;
+    }
+
     public User getAuthor() {
         return author;
     }
@@ -0,0 +1,135 @@
+package com.rachnit.blog01.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * Uploaded media file indexed by the SHA-256 of its content.
+ * Identical uploads reuse the same stored asset; referenceCount tracks
+ * how many posts point at it so it is only deleted by the last one.
+ */
+@Entity
+@Table(
+    name = "media_assets",
+    indexes = @Index(
+        name = "idx_media_assets_content_hash",
+        columnList = "contentHash"
+    )
+)
+public class MediaAsset {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false, unique = true, length = 1000)
+    private String url;
+
+    @Column(nullable = false, length = 500)
+    private String publicId;
+
+    @Column(nullable = false, length = 20)
+    private String resourceType;
+
+    @Column(nullable = false)
+    private long sizeBytes;
+
+    @Column(nullable = false)
+    private int referenceCount = 1;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // Constructors
+    public MediaAsset() {}
+
+    public MediaAsset(
+        String contentHash,
+        String url,
+        String publicId,
+        String resourceType,
+        long sizeBytes
+    ) {
+        this.contentHash = contentHash;
+        this.url = url;
+        this.publicId = publicId;
+        this.resourceType = resourceType;
+        this.sizeBytes = sizeBytes;
+        this.referenceCount = 1;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getPublicId() {
+        return publicId;
+    }
+
+    public void setPublicId(String publicId) {
+        this.publicId = publicId;
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    public void setResourceType(String resourceType) {
+        this.resourceType = resourceType;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public int getReferenceCount() {
+        return referenceCount;
+    }
+
+    public void setReferenceCount(int referenceCount) {
+        this.referenceCount = referenceCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -14,7 +15,23 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
-@Table(name = "notifications")
+@Table(
+    name = "notifications",
+    indexes = {
+        @Index(
+            name = "idx_notifications_recipient_read_created_at",
+            columnList = "recipient_id, read, createdAt"
+        ),
+        @Index(
+            name = "idx_notifications_actor",
+            columnList = "actor_id"
+        ),
+        @Index(
+            name = "idx_notifications_post",
+            columnList = "post_id"
+        )
+    }
+)
 public class Notification {
 
     @Id
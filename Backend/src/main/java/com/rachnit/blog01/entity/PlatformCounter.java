@@ -0,0 +1,59 @@
+package com.rachnit.blog01.entity;
+
+import com.rachnit.blog01.enums.PlatformStat;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * Materialized dashboard statistic, one row per counter.
+ * Write paths add deltas when their transaction commits; a scheduled
+ * full recount corrects any drift.
+ */
+@Entity
+@Table(name = "platform_counters")
+public class PlatformCounter {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private PlatformStat stat;
+
+    @Column(nullable = false)
+    private long total;
+
+    // Last change, by a delta or a recount
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Last full recount
+    @Column(nullable = false)
+    private LocalDateTime recomputedAt;
+
+    // Constructors
+    public PlatformCounter() {}
+
+    public PlatformCounter(PlatformStat stat, long total, LocalDateTime recomputedAt) {
+        this.stat = stat;
+        this.total = total;
+        this.updatedAt = recomputedAt;
+        this.recomputedAt = recomputedAt;
+    }
+
+    // Getters and setters
+    public PlatformStat getStat() { return stat; }
+    public void setStat(PlatformStat stat) { this.stat = stat; }
+
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public LocalDateTime getRecomputedAt() { return recomputedAt; }
+    public void setRecomputedAt(LocalDateTime recomputedAt) { this.recomputedAt = recomputedAt; }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -14,7 +15,19 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
-@Table(name = "reports")
+@Table(
+    name = "reports",
+    indexes = {
+        @Index(
+            name = "idx_reports_reported_user",
+            columnList = "reported_user_id"
+        ),
+        @Index(
+            name = "idx_reports_reporter",
+            columnList = "reporter_id"
+        )
+    }
+)
 public class Report {
 
     @Id
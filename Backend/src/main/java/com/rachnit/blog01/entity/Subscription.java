@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -19,6 +20,10 @@ import org.hibernate.annotations.OnDeleteAction;
     name = "subscriptions",
     uniqueConstraints = @UniqueConstraint(
         columnNames = { "follower_id", "following_id" }
+    ),
+    indexes = @Index(
+        name = "idx_subscriptions_following",
+        columnList = "following_id"
     )
 )
 public class Subscription {
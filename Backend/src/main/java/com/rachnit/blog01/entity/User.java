@@ -4,6 +4,10 @@ import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,16 +21,26 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;  
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "users")
+@Table(
+    name = "users",
+    indexes = @Index(
+        name = "idx_users_created_at",
+        columnList = "created_at desc"
+    )
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-by-username")
 public class User implements UserDetails {
 
     @Id
     @GeneratedValue(strategy= GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId
     @Column(unique = true, nullable = false)
     private String username;
 
@@ -52,6 +66,11 @@ public class User implements UserDetails {
     @Column
     private LocalDateTime bannedAt;
 
+    // Set when an admin deletes the account: it is disabled right away and
+    // its rows are removed in the background (UserPurgeService)
+    @Column
+    private LocalDateTime deletedAt;
+
     // Default constructor (required by JPA)
     // you'll need it later when we fetch users from the database!
     public User() {}
@@ -102,7 +121,7 @@ public class User implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return !banned;
+        return !banned && deletedAt == null;
     }
 
     // Getters and setters
@@ -128,6 +147,11 @@ public class User implements UserDetails {
     public LocalDateTime getBannedAt() { return bannedAt; }
     public void setBannedAt(LocalDateTime bannedAt) { this.bannedAt = bannedAt; }
 
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+    public void setDeletedAt(LocalDateTime deletedAt) { this.deletedAt = deletedAt; }
+
+    public boolean isDeleted() { return deletedAt != null; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.rachnit.blog01.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * Background removal of a deleted user's rows and media.
+ * Created in the same transaction that marks the user deleted, then worked
+ * through in chunks by UserPurgeService; progress is saved with every chunk
+ * so a restart picks up where it stopped.
+ */
+@Entity
+@Table(
+    name = "user_purge_tasks",
+    indexes = @Index(
+        name = "idx_user_purge_tasks_status",
+        columnList = "status, createdAt"
+    )
+)
+public class UserPurgeTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Not a foreign key: the user row is the last thing the purge deletes
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false, length = 20)
+    private String status = "PENDING"; // PENDING, DONE, FAILED
+
+    // Step being worked on (post-likes, ..., posts, ..., user)
+    @Column(length = 40)
+    private String phase;
+
+    @Column(nullable = false)
+    private long rowsDeleted = 0;
+
+    @Column(nullable = false)
+    private long postsDeleted = 0;
+
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @Column
+    private LocalDateTime finishedAt;
+
+    // Constructors
+    public UserPurgeTask() {}
+
+    public UserPurgeTask(Long userId, String username) {
+        this.userId = userId;
+        this.username = username;
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getPhase() { return phase; }
+    public void setPhase(String phase) { this.phase = phase; }
+
+    public long getRowsDeleted() { return rowsDeleted; }
+    public void setRowsDeleted(long rowsDeleted) { this.rowsDeleted = rowsDeleted; }
+
+    public long getPostsDeleted() { return postsDeleted; }
+    public void setPostsDeleted(long postsDeleted) { this.postsDeleted = postsDeleted; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+}
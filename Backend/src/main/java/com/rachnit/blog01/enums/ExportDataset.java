@@ -0,0 +1,27 @@
+package com.rachnit.blog01.enums;
+
+/**
+ * What an admin export contains
+ */
+public enum ExportDataset {
+    USERS("users"),
+    POSTS("posts"),
+    REPORTS("reports");
+
+    private final String name;
+
+    ExportDataset(String name) {
+        this.name = name;
+    }
+
+    public String getName() { return name; }
+
+    public static ExportDataset from(String value) {
+        for (ExportDataset dataset : values()) {
+            if (dataset.name.equalsIgnoreCase(value)) {
+                return dataset;
+            }
+        }
+        throw new RuntimeException("Invalid export. Must be users, posts or reports");
+    }
+}
@@ -0,0 +1,26 @@
+package com.rachnit.blog01.enums;
+
+/**
+ * Admin export file formats (always gzip-compressed)
+ */
+public enum ExportFormat {
+    CSV("csv"),
+    NDJSON("ndjson");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() { return extension; }
+
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new RuntimeException("Invalid format. Must be csv or ndjson");
+    }
+}
@@ -0,0 +1,33 @@
+package com.rachnit.blog01.enums;
+
+/**
+ * Bulk moderation actions, on posts or on users
+ */
+public enum ModerationAction {
+    HIDE(false),
+    UNHIDE(false),
+    DELETE(false),
+    BAN(true),
+    UNBAN(true);
+
+    private final boolean onUsers;
+
+    ModerationAction(boolean onUsers) {
+        this.onUsers = onUsers;
+    }
+
+    public boolean isOnUsers() { return onUsers; }
+
+    public static ModerationAction from(String value, boolean onUsers) {
+        for (ModerationAction action : values()) {
+            if (action.name().equalsIgnoreCase(value) && action.onUsers == onUsers) {
+                return action;
+            }
+        }
+        throw new RuntimeException(
+            onUsers
+                ? "Invalid action. Must be BAN or UNBAN"
+                : "Invalid action. Must be HIDE, UNHIDE or DELETE"
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.rachnit.blog01.enums;
+
+/**
+ * Platform-wide counters shown on the admin dashboard, plus the content
+ * version behind the post list ETags.
+ * Declaration order is the order counter rows are locked in.
+ */
+public enum PlatformStat {
+    USERS,
+    BANNED_USERS,
+    POSTS,
+    HIDDEN_POSTS,
+    REPORTS,
+    PENDING_REPORTS,
+    RESOLVED_REPORTS,
+    DISMISSED_REPORTS,
+
+    // Not a statistic: bumped by every write that changes what a post list
+    // shows (posts, likes, comments, hiding, renditions, deleted authors).
+    // Never recounted, only ever goes up.
+    CONTENT_VERSION;
+
+    /**
+     * Counter for reports in the given status (PENDING, RESOLVED, DISMISSED)
+     */
+    public static PlatformStat forReportStatus(String status) {
+        return switch (status) {
+            case "PENDING" -> PENDING_REPORTS;
+            case "RESOLVED" -> RESOLVED_REPORTS;
+            case "DISMISSED" -> DISMISSED_REPORTS;
+            default -> throw new IllegalArgumentException("Unknown report status: " + status);
+        };
+    }
+}
@@ -3,6 +3,7 @@ package com.rachnit.blog01.exception;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.validation.FieldError;
@@ -50,6 +51,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(401).body(errorResponse);
     }
 
+    // Handle upload shedding (upload pool saturated)
+    @ExceptionHandler(UploadCapacityExceededException.class)
+    public ResponseEntity<ErrorResponse> handleUploadCapacity(UploadCapacityExceededException e, 
+                                                             HttpServletRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            503, 
+            e.getMessage(), 
+            request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(503)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
+
     // Handle business logic errors (our custom RuntimeExceptions)
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException e, 
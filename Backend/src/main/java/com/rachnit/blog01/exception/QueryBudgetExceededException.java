@@ -0,0 +1,25 @@
+package com.rachnit.blog01.exception;
+
+/**
+ * Thrown by QueryCountFilter in enforce mode when a request runs more SQL
+ * statements than its endpoint's budget, so N+1 regressions fail tests.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    private final int statements;
+    private final int budget;
+
+    public QueryBudgetExceededException(String message, int statements, int budget) {
+        super(message);
+        this.statements = statements;
+        this.budget = budget;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+}
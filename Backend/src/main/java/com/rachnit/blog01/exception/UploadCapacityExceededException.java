@@ -0,0 +1,19 @@
+package com.rachnit.blog01.exception;
+
+/**
+ * Thrown when the upload executor is saturated.
+ * Mapped to 503 Service Unavailable with a Retry-After header.
+ */
+public class UploadCapacityExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public UploadCapacityExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,145 @@
+package com.rachnit.blog01.metrics;
+
+import com.rachnit.blog01.config.QueryBudgetProperties;
+import com.rachnit.blog01.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records how many SQL queries each API request ran, per endpoint
+ * (metric blog.http.queries, tagged with method and uri template).
+ * Runs before Spring Security so the JWT user lookup is counted too.
+ *
+ * Requests over their query budget (see QueryBudgetProperties) are logged
+ * with their most repeated query shapes, or fail in enforce mode.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final int MAX_SHAPE_LENGTH = 200;
+
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgetProperties budgets;
+
+    public QueryCountFilter(
+        MeterRegistry meterRegistry,
+        QueryBudgetProperties budgets
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.budgets = budgets;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        QueryCounter.reset();
+        if (budgets.getMode() != QueryBudgetProperties.Mode.OFF) {
+            QueryCounter.trackShapes();
+        }
+        try {
+            filterChain.doFilter(request, response);
+            checkBudget(request);
+        } finally {
+            meterRegistry
+                .summary(
+                    "blog.http.queries",
+                    "method",
+                    request.getMethod(),
+                    "uri",
+                    uriTemplate(request)
+                )
+                .record(QueryCounter.current());
+            QueryCounter.clear();
+        }
+    }
+
+    private void checkBudget(HttpServletRequest request) {
+        if (budgets.getMode() == QueryBudgetProperties.Mode.OFF) {
+            return;
+        }
+
+        String uri = uriTemplate(request);
+        int statements = QueryCounter.current();
+        int budget = budgets.budgetFor(uri);
+        if (statements <= budget) {
+            return;
+        }
+
+        meterRegistry
+            .counter(
+                "blog.http.queries.over.budget",
+                "method",
+                request.getMethod(),
+                "uri",
+                uri
+            )
+            .increment();
+
+        String endpoint = request.getMethod() + " " + uri;
+        StringBuilder message = new StringBuilder()
+            .append(endpoint)
+            .append(" ran ")
+            .append(statements)
+            .append(" SQL statements (budget ")
+            .append(budget)
+            .append(")");
+        QueryCounter.shapes()
+            .entrySet()
+            .stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .limit(budgets.getShapesLogged())
+            .forEach(shape ->
+                message
+                    .append("\n   ")
+                    .append(shape.getValue())
+                    .append("x ")
+                    .append(abbreviate(shape.getKey()))
+            );
+
+        System.err.println("⚠️ Query budget exceeded: " + message);
+
+        if (budgets.getMode() == QueryBudgetProperties.Mode.ENFORCE) {
+            throw new QueryBudgetExceededException(
+                "Query budget exceeded: " + message,
+                statements,
+                budget
+            );
+        }
+    }
+
+    /**
+     * Use the matched mapping (/api/posts/{id}) rather than the raw path,
+     * so every post id doesn't create its own time series
+     */
+    private String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(
+            HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE
+        );
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_SHAPE_LENGTH
+            ? sql
+            : sql.substring(0, MAX_SHAPE_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,75 @@
+package com.rachnit.blog01.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ *
+ * Registered as Hibernate's StatementInspector (see MetricsConfig) and
+ * reset by QueryCountFilter at the start of every request, so the count
+ * read at the end is the number of queries that request ran. When shape
+ * tracking is on, it also counts how often each distinct query ran, which
+ * is what points at an N+1 loop.
+ */
+public class QueryCounter implements StatementInspector {
+
+    // "in (?,?,?)" becomes "in (?...)" so batches of different sizes share a shape
+    private static final Pattern IN_LIST = Pattern.compile(
+        "\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)"
+    );
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(
+        () -> new int[1]
+    );
+
+    private static final ThreadLocal<Map<String, Integer>> SHAPES = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        Map<String, Integer> shapes = SHAPES.get();
+        if (shapes != null) {
+            shapes.merge(shape(sql), 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+        SHAPES.remove();
+    }
+
+    /**
+     * Also record query shapes until clear() (only inside a request, so
+     * scheduler threads don't grow a map forever)
+     */
+    public static void trackShapes() {
+        SHAPES.set(new HashMap<>());
+    }
+
+    public static int current() {
+        return COUNT.get()[0];
+    }
+
+    /**
+     * Times each query shape ran since trackShapes(), empty if not tracking
+     */
+    public static Map<String, Integer> shapes() {
+        Map<String, Integer> shapes = SHAPES.get();
+        return shapes != null ? shapes : Collections.emptyMap();
+    }
+
+    public static void clear() {
+        COUNT.remove();
+        SHAPES.remove();
+    }
+
+    static String shape(String sql) {
+        return IN_LIST.matcher(sql.trim()).replaceAll("(?...)");
+    }
+}
@@ -3,7 +3,10 @@ package com.rachnit.blog01.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.rachnit.blog01.entity.BlogPost;
@@ -14,8 +17,9 @@ import com.rachnit.blog01.entity.User;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     /**
-     * Get all comments for a post by post ID
+     * Get all comments for a post by post ID, authors fetched in the same query
      */
+    @EntityGraph(attributePaths = "author")
     List<Comment> findByPost_IdOrderByCreatedAtDesc(Long postId);
     
     /**
@@ -27,4 +31,10 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * Find comment by ID and author (for ownership verification when deleting)
     */
     Optional<Comment> findByIdAndAuthor(Long id, User author);
+
+    /**
+     * ETag inputs: comments are only ever inserted or deleted
+     */
+    @Query("SELECT COUNT(c) AS total, MAX(c.id) AS maxId FROM Comment c WHERE c.post.id = :postId")
+    VersionStamp findCommentsVersionByPost(@Param("postId") Long postId);
 }
@@ -3,6 +3,8 @@ package com.rachnit.blog01.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.rachnit.blog01.entity.BlogPost;
@@ -16,6 +18,11 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
      */
     boolean existsByUserAndPost(User user, BlogPost post);
 
+    /**
+     * Same check by ids, without loading the post
+     */
+    boolean existsByUser_IdAndPost_Id(Long userId, Long postId);
+
     /**
      * Find like by user and post (for unlike operation)
      * Get actual like record for deletion
@@ -31,4 +38,10 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
      * Delete like (unlike operation)
      */
     void deleteByUserAndPost(User user, BlogPost post);
+
+    /**
+     * ETag inputs: likes are only ever inserted or deleted
+     */
+    @Query("SELECT COUNT(l) AS total, MAX(l.id) AS maxId FROM Like l WHERE l.post.id = :postId")
+    VersionStamp findLikesVersionByPost(@Param("postId") Long postId);
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.rachnit.blog01.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.rachnit.blog01.entity.MediaAsset;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface MediaAssetRepository extends JpaRepository<MediaAsset, Long> {
+
+    /**
+     * Find an already stored asset with identical content
+     * Locked so concurrent uploads/deletes don't lose reference counts
+     * (two racing first uploads may both store a copy, which is harmless)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<MediaAsset> findFirstByContentHashOrderByIdAsc(String contentHash);
+
+    /**
+     * Find the asset behind a post's media URL
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<MediaAsset> findByUrl(String url);
+
+    /**
+     * Public IDs of tracked assets after a given id (keyset paging)
+     */
+    @Query("SELECT a.id, a.publicId FROM MediaAsset a WHERE a.id > :afterId ORDER BY a.id")
+    List<Object[]> findPublicIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
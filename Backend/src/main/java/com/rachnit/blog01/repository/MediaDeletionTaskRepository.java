@@ -0,0 +1,35 @@
+package com.rachnit.blog01.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.rachnit.blog01.entity.MediaDeletionTask;
+
+@Repository
+public interface MediaDeletionTaskRepository extends JpaRepository<MediaDeletionTask, Long> {
+
+    /**
+     * Next batch of deletions whose retry time has come
+     */
+    List<MediaDeletionTask> findTop50ByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+        String status, LocalDateTime now);
+
+    /**
+     * Tasks in a given state (DEAD = dead-letter list for admins)
+     */
+    List<MediaDeletionTask> findByStatusOrderByUpdatedAtDesc(String status);
+
+    long countByStatus(String status);
+
+    /**
+     * Public IDs already queued for deletion, after a given id (keyset paging)
+     */
+    @Query("SELECT t.id, t.publicId FROM MediaDeletionTask t WHERE t.id > :afterId ORDER BY t.id")
+    List<Object[]> findPublicIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
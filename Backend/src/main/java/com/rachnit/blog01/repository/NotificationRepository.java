@@ -3,6 +3,8 @@ package com.rachnit.blog01.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.rachnit.blog01.entity.Notification;
@@ -20,4 +22,13 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      * Count unread notifications for a user
      */
     long countByRecipientAndReadFalse(User recipient);
+
+    /**
+     * ETag inputs for a user's notifications: marking one read lowers the
+     * unread marker, lastUpdated follows edits of the posts they link to
+     */
+    @Query("SELECT COUNT(n) AS total, MAX(n.id) AS maxId, MAX(p.updatedAt) AS lastUpdated, " +
+           "SUM(CASE WHEN n.read = false THEN 1 ELSE 0 END) AS marker " +
+           "FROM Notification n LEFT JOIN n.post p WHERE n.recipient.id = :recipientId")
+    VersionStamp findNotificationsVersion(@Param("recipientId") Long recipientId);
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.rachnit.blog01.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.rachnit.blog01.entity.PlatformCounter;
+import com.rachnit.blog01.enums.PlatformStat;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface PlatformCounterRepository extends JpaRepository<PlatformCounter, PlatformStat> {
+
+    // Atomic in-place add, no read-modify-write. 0 rows before the first recount.
+    @Modifying
+    @Transactional
+    @Query("UPDATE PlatformCounter c SET c.total = c.total + :delta, c.updatedAt = :now " +
+           "WHERE c.stat = :stat")
+    int adjust(
+        @Param("stat") PlatformStat stat,
+        @Param("delta") long delta,
+        @Param("now") LocalDateTime now
+    );
+
+    // Row lock for the recount, held until its transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM PlatformCounter c WHERE c.stat = :stat")
+    Optional<PlatformCounter> findForUpdate(@Param("stat") PlatformStat stat);
+}
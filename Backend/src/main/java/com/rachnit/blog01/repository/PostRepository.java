@@ -1,20 +1,38 @@
 package com.rachnit.blog01.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.rachnit.blog01.dto.response.AdminPostResponse;
 import com.rachnit.blog01.entity.BlogPost;
 import com.rachnit.blog01.entity.User;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface PostRepository extends JpaRepository<BlogPost, Long> {
     
-    // Get all posts (newest first) for main feed
+    // Get all posts (newest first), including deleted users' (admin)
     List<BlogPost> findAllByOrderByCreatedAtDesc();
 
+    // Main feed: posts of users that are not deleted, newest first
+    List<BlogPost> findByAuthor_DeletedAtIsNullOrderByCreatedAtDesc();
+
     // Get user's posts
     List<BlogPost> findByAuthor_IdOrderByCreatedAtDesc(Long authorId);
 
@@ -28,4 +46,111 @@ public interface PostRepository extends JpaRepository<BlogPost, Long> {
     List<BlogPost> findByAuthorInOrderByCreatedAtDesc(List<User> authors);
 
     long countByHidden(boolean hidden);
-}
\ No newline at end of file
+
+    // Another post sharing the same (deduplicated) media that already has renditions
+    Optional<BlogPost> findFirstByMediaUrlAndThumbnailUrlIsNotNull(String mediaUrl);
+
+    // Store generated renditions, only if the post still has the same media.
+    // Bulk update so the post's updatedAt (edit time) is left untouched.
+    @Modifying
+    @Transactional
+    @Query("UPDATE BlogPost p SET p.thumbnailUrl = :thumbnailUrl, p.cardUrl = :cardUrl, " +
+           "p.fullUrl = :fullUrl, p.blurPlaceholder = :blurPlaceholder " +
+           "WHERE p.id = :postId AND p.mediaUrl = :mediaUrl")
+    int updateRenditions(@Param("postId") Long postId,
+                         @Param("mediaUrl") String mediaUrl,
+                         @Param("thumbnailUrl") String thumbnailUrl,
+                         @Param("cardUrl") String cardUrl,
+                         @Param("fullUrl") String fullUrl,
+                         @Param("blurPlaceholder") String blurPlaceholder);
+
+    // Media URLs of posts after a given id (keyset paging for the orphan media scan)
+    @Query("SELECT p.id, p.mediaUrl, p.thumbnailUrl, p.cardUrl, p.fullUrl FROM BlogPost p " +
+           "WHERE p.id > :afterId ORDER BY p.id")
+    List<Object[]> findMediaUrlsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Post lists without the full content: visible posts of users that are
+    // not deleted, newest first, with the first :excerptSource + 1 characters
+    // of the content (one more tells whether there is more; LENGTH would read
+    // the whole value) and counts as subselects
+    String SUMMARY_SELECT =
+        "SELECT p.id AS id, p.title AS title, " +
+        "SUBSTRING(p.content, 1, :excerptSource + 1) AS contentStart, " +
+        "p.mediaUrl AS mediaUrl, p.mediaType AS mediaType, p.thumbnailUrl AS thumbnailUrl, " +
+        "p.cardUrl AS cardUrl, p.blurPlaceholder AS blurPlaceholder, " +
+        "a.id AS authorId, a.username AS authorUsername, " +
+        "(SELECT COUNT(l) FROM Like l WHERE l.post = p) AS likesCount, " +
+        "(SELECT COUNT(c) FROM Comment c WHERE c.post = p) AS commentsCount, " +
+        "(SELECT COUNT(v) FROM Like v WHERE v.post = p AND v.user.id = :viewerId) AS likedByViewer, " +
+        "p.createdAt AS createdAt, p.updatedAt AS updatedAt " +
+        "FROM BlogPost p JOIN p.author a WHERE p.hidden = false AND a.deletedAt IS NULL ";
+
+    @Query(SUMMARY_SELECT + "ORDER BY p.createdAt DESC")
+    List<PostSummaryView> findAllSummaries(@Param("viewerId") Long viewerId,
+                                           @Param("excerptSource") int excerptSource);
+
+    @Query(SUMMARY_SELECT + "AND a.id = :authorId ORDER BY p.createdAt DESC")
+    List<PostSummaryView> findSummariesByAuthor(@Param("authorId") Long authorId,
+                                                @Param("viewerId") Long viewerId,
+                                                @Param("excerptSource") int excerptSource);
+
+    // Personalized feed: the viewer's own posts and those of users they follow
+    @Query(SUMMARY_SELECT + "AND (a.id = :viewerId OR a.id IN " +
+           "(SELECT s.following.id FROM Subscription s WHERE s.follower.id = :viewerId)) " +
+           "ORDER BY p.createdAt DESC")
+    List<PostSummaryView> findFeedSummaries(@Param("viewerId") Long viewerId,
+                                            @Param("excerptSource") int excerptSource);
+
+    // All posts as admin DTOs through a cursor, newest first (see UserRepository.streamAdminUsers)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.rachnit.blog01.dto.response.AdminPostResponse(" +
+           "p.id, p.title, p.content, p.mediaUrl, p.mediaType, a.id, a.username, a.banned, " +
+           "(SELECT COUNT(l) FROM Like l WHERE l.post = p), " +
+           "(SELECT COUNT(c) FROM Comment c WHERE c.post = p), " +
+           "p.hidden, p.hiddenReason, p.hiddenAt, p.createdAt, p.updatedAt) " +
+           "FROM BlogPost p JOIN p.author a ORDER BY p.createdAt DESC")
+    Stream<AdminPostResponse> streamAdminPosts();
+
+    // Bulk moderation targets: posts matching a filter (null parts ignored)
+    @Query("SELECT p.id FROM BlogPost p " +
+           "WHERE (:authorId IS NULL OR p.author.id = :authorId) " +
+           "AND (:after IS NULL OR p.createdAt >= :after) " +
+           "AND (:before IS NULL OR p.createdAt < :before) ORDER BY p.id")
+    List<Long> findIdsForModeration(
+        @Param("authorId") Long authorId,
+        @Param("after") LocalDateTime after,
+        @Param("before") LocalDateTime before,
+        Pageable limit
+    );
+
+    // One bulk moderation chunk, locked so outcomes can't change under it
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM BlogPost p WHERE p.id IN :ids")
+    List<BlogPost> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // Set-based hide/unhide. Bumps updatedAt like @PreUpdate would, for ETags.
+    @Modifying
+    @Transactional
+    @Query("UPDATE BlogPost p SET p.hidden = :hidden, p.hiddenReason = :reason, " +
+           "p.hiddenAt = :hiddenAt, p.updatedAt = :now WHERE p.id IN :ids")
+    int setHidden(
+        @Param("ids") Collection<Long> ids,
+        @Param("hidden") boolean hidden,
+        @Param("reason") String reason,
+        @Param("hiddenAt") LocalDateTime hiddenAt,
+        @Param("now") LocalDateTime now
+    );
+
+    // Set-based delete; likes, comments and notifications go by database cascade
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM BlogPost p WHERE p.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ETag inputs for one post. Hide/unhide and edits bump updatedAt;
+    // renditions don't, so the marker counts whether it has them
+    @Query("SELECT COUNT(p) AS total, MAX(p.id) AS maxId, MAX(p.updatedAt) AS lastUpdated, " +
+           "COUNT(p.thumbnailUrl) AS marker FROM BlogPost p " +
+           "WHERE p.id = :postId AND p.author.deletedAt IS NULL")
+    VersionStamp findPostVersion(@Param("postId") Long postId);
+}
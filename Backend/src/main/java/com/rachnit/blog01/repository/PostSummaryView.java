@@ -0,0 +1,43 @@
+package com.rachnit.blog01.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of a post list, as read by the PostRepository summary queries:
+ * only the start of the content, counts as subselects
+ */
+public interface PostSummaryView {
+
+    Long getId();
+
+    String getTitle();
+
+    // First characters of the content, enough to cut an excerpt from,
+    // plus one if the content is longer than that
+    String getContentStart();
+
+    String getMediaUrl();
+
+    String getMediaType();
+
+    String getThumbnailUrl();
+
+    String getCardUrl();
+
+    String getBlurPlaceholder();
+
+    Long getAuthorId();
+
+    String getAuthorUsername();
+
+    Long getLikesCount();
+
+    Long getCommentsCount();
+
+    // 1 if the viewer liked the post, else 0
+    Long getLikedByViewer();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
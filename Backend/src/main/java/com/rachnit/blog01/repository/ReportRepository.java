@@ -1,23 +1,37 @@
 package com.rachnit.blog01.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.rachnit.blog01.dto.response.ReportResponse;
 import com.rachnit.blog01.entity.Report;
 import com.rachnit.blog01.entity.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
     /**
-     * Get all reports (admin view)
+     * Get all reports (admin view), with the users involved in the same query
      */
+    @EntityGraph(attributePaths = { "reporter", "reportedUser", "resolvedBy" })
     List<Report> findAllByOrderByCreatedAtDesc();
 
     /**
      * Get reports by status (for filtering)
      */
+    @EntityGraph(attributePaths = { "reporter", "reportedUser", "resolvedBy" })
     List<Report> findByStatusOrderByCreatedAtDesc(String status);
 
      /**
@@ -39,4 +53,29 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
      * Count reports against a specific user
      */
     long countByReportedUser(User reportedUser);
+
+    // [status, count] rows, one per status in use
+    @Query("SELECT r.status, COUNT(r) FROM Report r GROUP BY r.status")
+    List<Object[]> countGroupByStatus();
+
+    // [status, count] rows for the given reports
+    @Query("SELECT r.status, COUNT(r) FROM Report r WHERE r.id IN :ids GROUP BY r.status")
+    List<Object[]> countGroupByStatusIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Report r WHERE r.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * All reports as DTOs through a cursor, newest first
+     * (see UserRepository.streamAdminUsers)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.rachnit.blog01.dto.response.ReportResponse(" +
+           "r.id, r.reason, r.status, rp.id, rp.username, ru.id, ru.username, ru.banned, " +
+           "rb.id, rb.username, r.createdAt, r.resolvedAt) " +
+           "FROM Report r JOIN r.reporter rp JOIN r.reportedUser ru LEFT JOIN r.resolvedBy rb " +
+           "ORDER BY r.createdAt DESC")
+    Stream<ReportResponse> streamAllReports();
 }
\ No newline at end of file
@@ -40,4 +40,10 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
     long countByFollower(User user);
 
     void deleteByFollowerAndFollowing(User follower, User following);
+
+    /**
+     * ETag input for the personalized feed: who the user follows
+     */
+    @Query("SELECT COUNT(s) AS total, MAX(s.id) AS maxId FROM Subscription s WHERE s.follower.id = :followerId")
+    VersionStamp findFollowingVersion(@Param("followerId") Long followerId);
 }
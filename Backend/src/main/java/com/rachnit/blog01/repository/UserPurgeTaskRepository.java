@@ -0,0 +1,32 @@
+package com.rachnit.blog01.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.rachnit.blog01.entity.UserPurgeTask;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface UserPurgeTaskRepository extends JpaRepository<UserPurgeTask, Long> {
+
+    /**
+     * Purges still to run, oldest first
+     */
+    List<UserPurgeTask> findByStatusOrderByCreatedAtAsc(String status);
+
+    List<UserPurgeTask> findAllByOrderByCreatedAtDesc();
+
+    Optional<UserPurgeTask> findFirstByUserIdOrderByCreatedAtDesc(Long userId);
+
+    // Held for one chunk, so two instances never work on the same purge at once
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM UserPurgeTask t WHERE t.id = :id")
+    Optional<UserPurgeTask> findForUpdate(@Param("id") Long id);
+}
@@ -1,16 +1,30 @@
 package com.rachnit.blog01.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.rachnit.blog01.dto.response.AdminUserResponse;
 import com.rachnit.blog01.entity.User;
 
-@Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
-    Optional<User> findByUsername(String username);
+@Repository
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     Optional<User> findByEmail(String email);
 
@@ -19,4 +33,46 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     long countByBanned(boolean banned);
-}
\ No newline at end of file
+
+    /**
+     * All users as admin DTOs (deleted ones being purged left out), read through a cursor (must be consumed inside
+     * a transaction and closed). Counts are subselects and no entities are
+     * loaded, so memory stays flat however many rows there are.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.rachnit.blog01.dto.response.AdminUserResponse(" +
+           "u.id, u.username, u.email, u.role, u.banned, u.banReason, u.bannedAt, " +
+           "(SELECT COUNT(p) FROM BlogPost p WHERE p.author = u), " +
+           "(SELECT COUNT(s) FROM Subscription s WHERE s.following = u), " +
+           "(SELECT COUNT(s) FROM Subscription s WHERE s.follower = u), " +
+           "(SELECT COUNT(r) FROM Report r WHERE r.reportedUser = u), " +
+           "u.createdAt) FROM User u WHERE u.deletedAt IS NULL ORDER BY u.id")
+    Stream<AdminUserResponse> streamAdminUsers();
+
+    // Bulk moderation targets: users who joined in a range (null ends ignored)
+    @Query("SELECT u.id FROM User u WHERE u.deletedAt IS NULL " +
+           "AND (:after IS NULL OR u.createdAt >= :after) " +
+           "AND (:before IS NULL OR u.createdAt < :before) ORDER BY u.id")
+    List<Long> findIdsForModeration(
+        @Param("after") LocalDateTime after,
+        @Param("before") LocalDateTime before,
+        Pageable limit
+    );
+
+    // One bulk moderation chunk, locked so outcomes can't change under it
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id IN :ids")
+    List<User> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // Set-based ban/unban
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.banned = :banned, u.banReason = :reason, u.bannedAt = :bannedAt " +
+           "WHERE u.id IN :ids")
+    int setBanned(
+        @Param("ids") Collection<Long> ids,
+        @Param("banned") boolean banned,
+        @Param("reason") String reason,
+        @Param("bannedAt") LocalDateTime bannedAt
+    );
+}
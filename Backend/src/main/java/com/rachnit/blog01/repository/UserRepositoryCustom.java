@@ -0,0 +1,38 @@
+package com.rachnit.blog01.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.rachnit.blog01.dto.response.AdminUserResponse;
+import com.rachnit.blog01.dto.response.UserProfileResponse;
+import com.rachnit.blog01.entity.User;
+import com.rachnit.blog01.enums.Role;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Look a user up by username through Hibernate's natural-id API, so
+     * repeat lookups (every authenticated request) come from the
+     * second-level cache instead of running a query
+     */
+    Optional<User> findByUsername(String username);
+
+    /**
+     * One page of the admin user list (deleted users left out) with
+     * post/follower/following/report counts and the total row count, in a
+     * single query. Filters are
+     * skipped when null. Sortable by "created", "followers" or "reports"
+     * (first order of the pageable's sort, default newest first).
+     */
+    Page<AdminUserResponse> findAdminUsers(Boolean banned, Role role, Pageable pageable);
+
+    /**
+     * The user directory as seen by the viewer: every user with follower,
+     * following and post counts and whether the viewer follows them, in a
+     * single query
+     */
+    List<UserProfileResponse> findUserProfiles(Long viewerId);
+}
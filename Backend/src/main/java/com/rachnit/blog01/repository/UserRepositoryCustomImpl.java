@@ -0,0 +1,176 @@
+package com.rachnit.blog01.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.hibernate.Session;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.rachnit.blog01.dto.response.AdminUserResponse;
+import com.rachnit.blog01.dto.response.UserProfileResponse;
+import com.rachnit.blog01.entity.User;
+import com.rachnit.blog01.enums.Role;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    // Sort keys accepted by findAdminUsers, mapped to what the query orders by
+    private static final Map<String, String> ADMIN_USER_SORTS = Map.of(
+        "created", "u.createdAt",
+        "followers", "followersCount",
+        "reports", "reportsCount"
+    );
+
+    // Counts are correlated subselects: when sorting by join date the
+    // database only evaluates them for the rows of the requested page.
+    // Deleted users are left out while their purge runs
+    private static final String ADMIN_USER_SELECT =
+        "SELECT u.id, u.username, u.email, u.role, u.banned, u.banReason, u.bannedAt, " +
+        "(SELECT COUNT(p) FROM BlogPost p WHERE p.author = u) AS postsCount, " +
+        "(SELECT COUNT(s) FROM Subscription s WHERE s.following = u) AS followersCount, " +
+        "(SELECT COUNT(s) FROM Subscription s WHERE s.follower = u) AS followingCount, " +
+        "(SELECT COUNT(r) FROM Report r WHERE r.reportedUser = u) AS reportsCount, " +
+        "u.createdAt, COUNT(*) OVER () " +
+        "FROM User u WHERE u.deletedAt IS NULL";
+
+    private static final String USER_PROFILE_SELECT =
+        "SELECT u.id, u.username, u.role, " +
+        "(SELECT COUNT(s) FROM Subscription s WHERE s.following = u), " +
+        "(SELECT COUNT(s) FROM Subscription s WHERE s.follower = u), " +
+        "(SELECT COUNT(p) FROM BlogPost p WHERE p.author = u), " +
+        "CASE WHEN EXISTS (SELECT s.id FROM Subscription s " +
+        "WHERE s.follower.id = :viewerId AND s.following = u) THEN true ELSE false END, " +
+        "u.createdAt " +
+        "FROM User u WHERE u.deletedAt IS NULL ORDER BY u.id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Own read-only transaction when called outside one, the natural-id API
+    // needs a real session rather than the shared EntityManager proxy. Inside
+    // a write transaction it simply joins it. Authentication (JWT filter,
+    // login) wraps it in ReadWriteRoutingDataSource.onPrimary
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByUsername(String username) {
+        return entityManager
+            .unwrap(Session.class)
+            .bySimpleNaturalId(User.class)
+            .loadOptional(username);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AdminUserResponse> findAdminUsers(Boolean banned, Role role, Pageable pageable) {
+        StringBuilder jpql = new StringBuilder(ADMIN_USER_SELECT);
+        List<String> conditions = new ArrayList<>();
+        if (banned != null) {
+            conditions.add("u.banned = :banned");
+        }
+        if (role != null) {
+            conditions.add("u.role = :role");
+        }
+        if (!conditions.isEmpty()) {
+            jpql.append(" AND ").append(String.join(" AND ", conditions));
+        }
+
+        Sort.Order order = pageable.getSort().stream()
+            .findFirst()
+            .orElse(Sort.Order.desc("created"));
+        String orderBy = ADMIN_USER_SORTS.get(order.getProperty());
+        if (orderBy == null) {
+            throw new IllegalArgumentException("Unknown sort: " + order.getProperty());
+        }
+        String direction = order.isAscending() ? "ASC" : "DESC";
+        // Id as tie-breaker so pages don't overlap when counts are equal
+        jpql.append(" ORDER BY ").append(orderBy).append(' ').append(direction)
+            .append(", u.id ").append(direction);
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        if (banned != null) {
+            query.setParameter("banned", banned);
+        }
+        if (role != null) {
+            query.setParameter("role", role);
+        }
+        List<Object[]> rows = query
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+
+        List<AdminUserResponse> users = new ArrayList<>(rows.size());
+        long total = 0;
+        for (Object[] row : rows) {
+            users.add(new AdminUserResponse(
+                (Long) row[0],
+                (String) row[1],
+                (String) row[2],
+                (Role) row[3],
+                (Boolean) row[4],
+                (String) row[5],
+                (LocalDateTime) row[6],
+                (Long) row[7],
+                (Long) row[8],
+                (Long) row[9],
+                (Long) row[10],
+                (LocalDateTime) row[11]
+            ));
+            total = ((Number) row[12]).longValue();
+        }
+
+        // Past the last page there is no row to carry the total
+        if (rows.isEmpty() && pageable.getOffset() > 0) {
+            return new PageImpl<>(users, pageable, countAdminUsers(banned, role));
+        }
+        return new PageImpl<>(users, pageable, total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserProfileResponse> findUserProfiles(Long viewerId) {
+        List<Object[]> rows = entityManager
+            .createQuery(USER_PROFILE_SELECT, Object[].class)
+            .setParameter("viewerId", viewerId)
+            .getResultList();
+
+        List<UserProfileResponse> users = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long userId = (Long) row[0];
+            users.add(new UserProfileResponse(
+                userId,
+                (String) row[1],
+                null,
+                (Role) row[2],
+                (Long) row[3],
+                (Long) row[4],
+                (Long) row[5],
+                (Boolean) row[6],
+                userId.equals(viewerId),
+                (LocalDateTime) row[7]
+            ));
+        }
+        return users;
+    }
+
+    private long countAdminUsers(Boolean banned, Role role) {
+        return entityManager
+            .createQuery(
+                "SELECT COUNT(u) FROM User u WHERE " +
+                "(:banned IS NULL OR u.banned = :banned) AND (:role IS NULL OR u.role = :role)",
+                Long.class
+            )
+            .setParameter("banned", banned)
+            .setParameter("role", role)
+            .getSingleResult();
+    }
+}
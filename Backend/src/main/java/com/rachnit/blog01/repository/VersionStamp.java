@@ -0,0 +1,22 @@
+package com.rachnit.blog01.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aggregate "has anything changed" summary of a set of rows, used to build
+ * ETags without loading the rows. Each query fills the columns it needs;
+ * the others come back null.
+ *
+ * total + maxId catch inserts and deletes (ids only grow), lastUpdated
+ * catches edits, marker is a query-specific extra (e.g. unread count).
+ */
+public interface VersionStamp {
+
+    Long getTotal();
+
+    Long getMaxId();
+
+    LocalDateTime getLastUpdated();
+
+    Long getMarker();
+}
@@ -1,6 +1,8 @@
 package com.rachnit.blog01.security;
 
 import com.rachnit.blog01.service.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,6 +27,9 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     /**
      * This method runs ONCE for every HTTP request
      * It's our chance to validate JWT tokens before SecurityConfig checks authentication
@@ -35,6 +40,9 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         HttpServletResponse response,
         FilterChain filterChain
     ) throws ServletException, IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "anonymous";
+
         final String authorizationHeader = request.getHeader("Authorization");
 
         String username = null;
@@ -45,6 +53,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
             authorizationHeader.startsWith("Bearer ")
         ) {
             jwtToken = authorizationHeader.substring(7);
+            outcome = "rejected";
             try {
                 username = jwtService.extractUsername(jwtToken);
             } catch (Exception e) {
@@ -81,9 +90,13 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
                 // Tell Spring Security "This user is now authenticated!"
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                outcome = "authenticated";
             }
         }
 
+        // Time token checks and the user lookup, not the rest of the request
+        sample.stop(meterRegistry.timer("blog.auth.jwt", "outcome", outcome));
+
         filterChain.doFilter(request, response);
     }
 }
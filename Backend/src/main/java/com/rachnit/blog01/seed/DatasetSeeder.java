@@ -0,0 +1,546 @@
+package com.rachnit.blog01.seed;
+
+import com.rachnit.blog01.config.SeedProperties;
+import com.rachnit.blog01.util.ZipfSampler;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the database with a large, skewed synthetic dataset for load tests.
+ *
+ * Enabled by the "seed" profile together with a database profile, e.g.
+ *   --spring.profiles.active=dev,seed --seed.posts=1000000 --seed.likes=10000000
+ *
+ * Popularity follows a Zipf law: a few users get most followers and write
+ * most posts, a few posts get most likes and comments. Rows are written
+ * with batched JDBC inserts (seed.batch-size per round trip), bypassing
+ * JPA entirely. The same seed.random-seed always produces the same data.
+ */
+@Component
+@Profile("seed")
+public class DatasetSeeder implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final SeedProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    public DatasetSeeder(
+        JdbcTemplate jdbcTemplate,
+        PasswordEncoder passwordEncoder,
+        SeedProperties properties,
+        ConfigurableApplicationContext context
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM users WHERE username LIKE ?",
+            Integer.class,
+            properties.getUsernamePrefix() + "%"
+        );
+        if (existing != null && existing > 0) {
+            System.out.println(
+                "Seed data already present (" + existing + " '" +
+                properties.getUsernamePrefix() + "' users), skipping. " +
+                "Use another --seed.username-prefix to add more."
+            );
+            exitIfRequested();
+            return;
+        }
+
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(properties.getRandomSeed());
+        long now = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
+
+        int userCount = properties.getUsers();
+        int postCount = properties.getPosts();
+
+        // Popularity rank -> row index, shuffled so popular rows aren't all the oldest
+        int[] userByRank = shuffledIndexes(userCount, random);
+        int[] postByRank = shuffledIndexes(postCount, random);
+        ZipfSampler userPopularity = new ZipfSampler(userCount, properties.getSkew());
+        ZipfSampler postPopularity = new ZipfSampler(postCount, properties.getSkew());
+
+        long[] userIds = seedUsers(userCount, now);
+        long follows = seedSubscriptions(userIds, userByRank, userPopularity, random, now);
+
+        int[] postAuthors = new int[postCount];
+        long[] postCreatedAt = new long[postCount];
+        long[] postIds = seedPosts(
+            userIds, userByRank, userPopularity, postAuthors, postCreatedAt, random, now
+        );
+
+        long likes = seedLikes(userIds, postIds, postByRank, postPopularity, postCreatedAt, random, now);
+        long comments = seedComments(userIds, postIds, postByRank, postPopularity, postCreatedAt, random, now);
+        long notifications = seedNotifications(userIds, postIds, postAuthors, postCreatedAt, random, now);
+
+        System.out.println("✅ Seeding finished in " + formatElapsed(start));
+        System.out.println("   Users:         " + userIds.length);
+        System.out.println("   Subscriptions: " + follows);
+        System.out.println("   Posts:         " + postIds.length);
+        System.out.println("   Likes:         " + likes);
+        System.out.println("   Comments:      " + comments);
+        System.out.println("   Notifications: " + notifications);
+        System.out.println(
+            "   Log in as " + properties.getUsernamePrefix() + "0 / " +
+            properties.getPassword()
+        );
+
+        exitIfRequested();
+    }
+
+    private long[] seedUsers(int count, long now) {
+        // BCrypt is slow on purpose: hash once, every seeded user shares it
+        String passwordHash = passwordEncoder.encode(properties.getPassword());
+        String prefix = properties.getUsernamePrefix();
+        long maxIdBefore = maxId("users");
+        Timestamp createdAt = toTimestamp(now - Duration.ofDays(properties.getDays()).toSeconds());
+
+        long[] row = { 0 };
+        insertRows(
+            "users",
+            "INSERT INTO users (username, email, password, role, created_at, banned) " +
+            "VALUES (?, ?, ?, 'USER', ?, false)",
+            ps -> {
+                if (row[0] == count) {
+                    return false;
+                }
+                ps.setString(1, prefix + row[0]);
+                ps.setString(2, prefix + row[0] + "@seed.local");
+                ps.setString(3, passwordHash);
+                ps.setTimestamp(4, createdAt);
+                row[0]++;
+                return true;
+            }
+        );
+        return newIds("users", maxIdBefore, count);
+    }
+
+    /**
+     * Each user follows ~averageFollows accounts (exponential spread),
+     * picked by popularity so follower counts follow a power law
+     */
+    private long seedSubscriptions(
+        long[] userIds,
+        int[] userByRank,
+        ZipfSampler userPopularity,
+        SplittableRandom random,
+        long now
+    ) {
+        int userCount = userIds.length;
+        int maxFollows = Math.max(0, Math.min(userCount - 1, properties.getAverageFollows() * 20));
+        Timestamp createdAt = toTimestamp(now);
+
+        int[] follower = { 0 };
+        int[] pending = new int[maxFollows];
+        int[] pendingSize = { 0 };
+        int[] pendingIndex = { 0 };
+        Set<Integer> chosen = new HashSet<>();
+
+        return insertRows(
+            "subscriptions",
+            "INSERT INTO subscriptions (follower_id, following_id, created_at) VALUES (?, ?, ?)",
+            ps -> {
+                // Refill with the next follower's followees
+                while (pendingIndex[0] == pendingSize[0]) {
+                    if (follower[0] == userCount) {
+                        return false;
+                    }
+                    int degree = (int) Math.min(
+                        maxFollows,
+                        Math.round(-properties.getAverageFollows() * Math.log(1 - random.nextDouble()))
+                    );
+                    chosen.clear();
+                    for (int attempt = 0; chosen.size() < degree && attempt < degree * 4; attempt++) {
+                        int followee = userByRank[userPopularity.sample(random)];
+                        if (followee != follower[0]) {
+                            chosen.add(followee);
+                        }
+                    }
+                    pendingSize[0] = 0;
+                    for (int followee : chosen) {
+                        pending[pendingSize[0]++] = followee;
+                    }
+                    pendingIndex[0] = 0;
+                    if (pendingSize[0] == 0) {
+                        follower[0]++;
+                    }
+                }
+
+                ps.setLong(1, userIds[follower[0]]);
+                ps.setLong(2, userIds[pending[pendingIndex[0]++]]);
+                ps.setTimestamp(3, createdAt);
+                if (pendingIndex[0] == pendingSize[0]) {
+                    follower[0]++;
+                }
+                return true;
+            }
+        );
+    }
+
+    /**
+     * Authors are drawn by popularity, so a few users write most posts
+     */
+    private long[] seedPosts(
+        long[] userIds,
+        int[] userByRank,
+        ZipfSampler userPopularity,
+        int[] postAuthors,
+        long[] postCreatedAt,
+        SplittableRandom random,
+        long now
+    ) {
+        int count = postAuthors.length;
+        long span = Duration.ofDays(properties.getDays()).toSeconds();
+        long maxIdBefore = maxId("posts");
+
+        for (int i = 0; i < count; i++) {
+            postAuthors[i] = userByRank[userPopularity.sample(random)];
+            postCreatedAt[i] = now - random.nextLong(span);
+        }
+        // Insert oldest first so ids grow with creation time, like real data
+        Arrays.sort(postCreatedAt);
+
+        int[] row = { 0 };
+        insertRows(
+            "posts",
+            "INSERT INTO posts (title, content, media_url, media_type, author_id, " +
+            "created_at, updated_at, hidden) VALUES (?, ?, ?, ?, ?, ?, ?, false)",
+            ps -> {
+                int i = row[0];
+                if (i == count) {
+                    return false;
+                }
+                boolean video = random.nextInt(10) == 0;
+                Timestamp createdAt = toTimestamp(postCreatedAt[i]);
+                ps.setString(1, "Seed post " + i);
+                ps.setString(2, loremIpsum(random));
+                ps.setString(
+                    3,
+                    "https://res.cloudinary.com/seed/" + (video ? "video" : "image") +
+                    "/upload/v1/blog-posts/" + (video ? "videos" : "images") +
+                    "/seed_" + i + (video ? ".mp4" : ".jpg")
+                );
+                ps.setString(4, video ? "video" : "image");
+                ps.setLong(5, userIds[postAuthors[i]]);
+                ps.setTimestamp(6, createdAt);
+                ps.setTimestamp(7, createdAt);
+                row[0]++;
+                return true;
+            }
+        );
+        return newIds("posts", maxIdBefore, count);
+    }
+
+    /**
+     * Likes per post follow the post popularity curve (capped at one like
+     * per user); likers of a post are distinct users along a random stride
+     */
+    private long seedLikes(
+        long[] userIds,
+        long[] postIds,
+        int[] postByRank,
+        ZipfSampler postPopularity,
+        long[] postCreatedAt,
+        SplittableRandom random,
+        long now
+    ) {
+        int userCount = userIds.length;
+        long total = properties.getLikes();
+
+        int[] rank = { 0 };
+        long[] remaining = { 0 };
+        int[] userCursor = { 0 };
+        int[] stride = { 1 };
+
+        return insertRows(
+            "likes",
+            "INSERT INTO likes (user_id, post_id, created_at) VALUES (?, ?, ?)",
+            ps -> {
+                while (remaining[0] == 0) {
+                    if (rank[0] == postIds.length) {
+                        return false;
+                    }
+                    remaining[0] = Math.min(
+                        userCount,
+                        randomRound(total * postPopularity.probability(rank[0]), random)
+                    );
+                    userCursor[0] = random.nextInt(userCount);
+                    stride[0] = coprimeStride(userCount, random);
+                    rank[0]++;
+                }
+
+                int post = postByRank[rank[0] - 1];
+                ps.setLong(1, userIds[userCursor[0]]);
+                ps.setLong(2, postIds[post]);
+                ps.setTimestamp(3, toTimestamp(randomTimeAfter(postCreatedAt[post], now, random)));
+                userCursor[0] = (int) ((userCursor[0] + (long) stride[0]) % userCount);
+                remaining[0]--;
+                return true;
+            }
+        );
+    }
+
+    private long seedComments(
+        long[] userIds,
+        long[] postIds,
+        int[] postByRank,
+        ZipfSampler postPopularity,
+        long[] postCreatedAt,
+        SplittableRandom random,
+        long now
+    ) {
+        long total = properties.getComments();
+        long[] row = { 0 };
+
+        return insertRows(
+            "comments",
+            "INSERT INTO comments (content, user_id, post_id, created_at) VALUES (?, ?, ?, ?)",
+            ps -> {
+                if (row[0] == total) {
+                    return false;
+                }
+                int post = postByRank[postPopularity.sample(random)];
+                ps.setString(1, "Seed comment " + row[0]);
+                ps.setLong(2, userIds[random.nextInt(userIds.length)]);
+                ps.setLong(3, postIds[post]);
+                ps.setTimestamp(4, toTimestamp(randomTimeAfter(postCreatedAt[post], now, random)));
+                row[0]++;
+                return true;
+            }
+        );
+    }
+
+    /**
+     * NEW_POST notifications from a post's author, mostly unread for recent posts
+     */
+    private long seedNotifications(
+        long[] userIds,
+        long[] postIds,
+        int[] postAuthors,
+        long[] postCreatedAt,
+        SplittableRandom random,
+        long now
+    ) {
+        long total = properties.getNotifications();
+        long[] row = { 0 };
+
+        return insertRows(
+            "notifications",
+            "INSERT INTO notifications (message, type, read, recipient_id, actor_id, post_id, created_at) " +
+            "VALUES (?, 'NEW_POST', ?, ?, ?, ?, ?)",
+            ps -> {
+                if (row[0] == total) {
+                    return false;
+                }
+                int post = random.nextInt(postIds.length);
+                int author = postAuthors[post];
+                int recipient = random.nextInt(userIds.length);
+                if (recipient == author) {
+                    recipient = (recipient + 1) % userIds.length;
+                }
+                boolean recent = now - postCreatedAt[post] < Duration.ofDays(7).toSeconds();
+                ps.setString(1, properties.getUsernamePrefix() + author + " published a new post");
+                ps.setBoolean(2, !recent || random.nextInt(4) == 0);
+                ps.setLong(3, userIds[recipient]);
+                ps.setLong(4, userIds[author]);
+                ps.setLong(5, postIds[post]);
+                ps.setTimestamp(6, toTimestamp(postCreatedAt[post]));
+                row[0]++;
+                return true;
+            }
+        );
+    }
+
+    // ============================================
+    // JDBC HELPERS
+    // ============================================
+
+    /**
+     * Source of rows: binds the next row's parameters, or returns false when done
+     */
+    private interface RowSource {
+        boolean next(PreparedStatement ps) throws SQLException;
+    }
+
+    /**
+     * Insert rows in JDBC batches, committing after each batch
+     */
+    private long insertRows(String table, String sql, RowSource source) {
+        long start = System.nanoTime();
+        int batchSize = properties.getBatchSize();
+
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                long count = 0;
+                int pending = 0;
+                while (source.next(ps)) {
+                    ps.addBatch();
+                    count++;
+                    if (++pending == batchSize) {
+                        ps.executeBatch();
+                        connection.commit();
+                        pending = 0;
+                    }
+                    if (count % 1_000_000 == 0) {
+                        System.out.println("   " + table + ": " + count + " rows...");
+                    }
+                }
+                if (pending > 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+                return count;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        });
+
+        System.out.println("Seeded " + rows + " " + table + " in " + formatElapsed(start));
+        return rows;
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(MAX(id), 0) FROM " + table,
+            Long.class
+        );
+        return max != null ? max : 0;
+    }
+
+    /**
+     * Ids of the rows just inserted, in insertion order (identity columns
+     * grow monotonically and the seeder is the only writer)
+     */
+    private long[] newIds(String table, long afterId, int count) {
+        long[] ids = new long[count];
+        int[] index = { 0 };
+        jdbcTemplate.query(
+            "SELECT id FROM " + table + " WHERE id > ? ORDER BY id",
+            rs -> {
+                if (index[0] < count) {
+                    ids[index[0]++] = rs.getLong(1);
+                }
+            },
+            afterId
+        );
+        if (index[0] != count) {
+            throw new IllegalStateException(
+                "Expected " + count + " new " + table + " rows, found " + index[0]
+            );
+        }
+        return ids;
+    }
+
+    // ============================================
+    // RANDOM HELPERS
+    // ============================================
+
+    private static int[] shuffledIndexes(int count, SplittableRandom random) {
+        int[] indexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            indexes[i] = i;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+        }
+        return indexes;
+    }
+
+    /**
+     * Round up with probability equal to the fraction, so many tiny
+     * expected counts still add up to the requested total
+     */
+    private static long randomRound(double expected, SplittableRandom random) {
+        long floor = (long) expected;
+        return floor + (random.nextDouble() < expected - floor ? 1 : 0);
+    }
+
+    /**
+     * Step that visits every user exactly once before repeating
+     */
+    private static int coprimeStride(int userCount, SplittableRandom random) {
+        if (userCount < 3) {
+            return 1;
+        }
+        while (true) {
+            int stride = 1 + random.nextInt(userCount - 1);
+            if (gcd(stride, userCount) == 1) {
+                return stride;
+            }
+        }
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    private static long randomTimeAfter(long from, long now, SplittableRandom random) {
+        return now > from ? from + random.nextLong(now - from) : from;
+    }
+
+    private static final String[] WORDS = {
+        "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing",
+        "elit", "sed", "do", "eiusmod", "tempor", "incididunt", "ut", "labore",
+        "et", "dolore", "magna", "aliqua", "enim", "ad", "minim", "veniam",
+    };
+
+    private static String loremIpsum(SplittableRandom random) {
+        int words = 20 + random.nextInt(180);
+        StringBuilder text = new StringBuilder(words * 7);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    private static Timestamp toTimestamp(long epochSecond) {
+        return Timestamp.valueOf(LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC));
+    }
+
+    private static String formatElapsed(long startNanos) {
+        return String.format("%.1fs", (System.nanoTime() - startNanos) / 1e9);
+    }
+
+    private void exitIfRequested() {
+        if (properties.isExitWhenDone()) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+}
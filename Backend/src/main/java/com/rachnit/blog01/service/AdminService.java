@@ -2,8 +2,15 @@ package com.rachnit.blog01.service;
 
 import com.rachnit.blog01.dto.response.AdminPostResponse;
 import com.rachnit.blog01.dto.response.AdminUserResponse;
+import com.rachnit.blog01.dto.response.MediaDeletionTaskResponse;
+import com.rachnit.blog01.dto.response.MediaGcReport;
+import com.rachnit.blog01.dto.response.PageResponse;
+import com.rachnit.blog01.dto.response.UploadExecutorStats;
+import com.rachnit.blog01.dto.response.UserPurgeResponse;
 import com.rachnit.blog01.entity.BlogPost;
 import com.rachnit.blog01.entity.User;
+import com.rachnit.blog01.entity.UserPurgeTask;
+import com.rachnit.blog01.enums.PlatformStat;
 import com.rachnit.blog01.enums.Role;
 import com.rachnit.blog01.repository.CommentRepository;
 import com.rachnit.blog01.repository.LikeRepository;
@@ -11,21 +18,30 @@ import com.rachnit.blog01.repository.PostRepository;
 import com.rachnit.blog01.repository.ReportRepository;
 import com.rachnit.blog01.repository.SubscriptionRepository;
 import com.rachnit.blog01.repository.UserRepository;
-import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
 public class AdminService {
 
+    private static final int MAX_USER_PAGE_SIZE = 100;
+
+    private static final Set<String> USER_SORTS = Set.of("created", "followers", "reports");
+
     @Autowired
     private UserRepository userRepository;
 
@@ -44,6 +60,27 @@ public class AdminService {
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private MediaDeletionService mediaDeletionService;
+
+    @Autowired
+    private OrphanMediaCollector orphanMediaCollector;
+
+    @Autowired
+    private UploadExecutor uploadExecutor;
+
+    @Autowired
+    private UserPurgeService userPurgeService;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private ImageRenditionService imageRenditionService;
+
+    @Autowired
+    private PlatformStatsService platformStatsService;
+
     /**
      * Get current authenticated user and verify admin role
      */
@@ -70,25 +107,81 @@ public class AdminService {
     /**
      * Get all users in the system
      */
+    @Transactional(readOnly = true)
     public List<AdminUserResponse> getAllUsers() {
         getCurrentAdmin(); // Verify admin access
 
-        List<User> users = userRepository.findAll();
+        // One query with the counts as subselects, not 4 more per user
+        try (Stream<AdminUserResponse> users = userRepository.streamAdminUsers()) {
+            return users.collect(Collectors.toList());
+        }
+    }
 
-        return users
-            .stream()
-            .map(this::convertToAdminUserResponse)
-            .collect(Collectors.toList());
+    /**
+     * One page of users, sorted by join date, followers or reports and
+     * optionally filtered by ban state and role. Rows, counts and the total
+     * come from a single query.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<AdminUserResponse> getUsersPage(
+        int page,
+        int size,
+        String sort,
+        String direction,
+        Boolean banned,
+        String role
+    ) {
+        getCurrentAdmin();
+
+        if (page < 0) {
+            throw new RuntimeException("Page must not be negative");
+        }
+        if (size < 1 || size > MAX_USER_PAGE_SIZE) {
+            throw new RuntimeException("Page size must be between 1 and " + MAX_USER_PAGE_SIZE);
+        }
+        String sortKey = sort.toLowerCase();
+        if (!USER_SORTS.contains(sortKey)) {
+            throw new RuntimeException("Invalid sort: " + sort + " (expected created, followers or reports)");
+        }
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction)
+            .orElseThrow(() -> new RuntimeException("Invalid direction: " + direction));
+
+        Role roleFilter = null;
+        if (role != null) {
+            try {
+                roleFilter = Role.valueOf(role.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Invalid role: " + role);
+            }
+        }
+
+        PageRequest pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortKey));
+        return new PageResponse<>(userRepository.findAdminUsers(banned, roleFilter, pageable));
+    }
+
+    /**
+     * Stream all users to the consumer, one DTO at a time, in one query.
+     * The consumer runs inside the (read-only) transaction.
+     */
+    @Transactional(readOnly = true)
+    public void streamAllUsers(Consumer<AdminUserResponse> consumer) {
+        getCurrentAdmin();
+
+        try (Stream<AdminUserResponse> users = userRepository.streamAdminUsers()) {
+            users.forEach(consumer);
+        }
     }
 
     /**
      * Get specific user details
      */
+    @Transactional(readOnly = true)
     public AdminUserResponse getUserById(Long userId) {
         getCurrentAdmin();
 
         User user = userRepository
             .findById(userId)
+            .filter(found -> !found.isDeleted())
             .orElseThrow(() -> new RuntimeException("User not found"));
 
         return convertToAdminUserResponse(user);
@@ -102,6 +195,7 @@ public class AdminService {
 
         User user = userRepository
             .findById(userId)
+            .filter(found -> !found.isDeleted())
             .orElseThrow(() -> new RuntimeException("User not found"));
 
         // Prevent banning admins
@@ -120,6 +214,7 @@ public class AdminService {
         user.setBannedAt(LocalDateTime.now());
 
         User updatedUser = userRepository.save(user);
+        platformStatsService.adjust(PlatformStat.BANNED_USERS, 1);
 
         return convertToAdminUserResponse(updatedUser);
     }
@@ -132,6 +227,7 @@ public class AdminService {
 
         User user = userRepository
             .findById(userId)
+            .filter(found -> !found.isDeleted())
             .orElseThrow(() -> new RuntimeException("User not found"));
 
         // Check if user is banned
@@ -145,14 +241,16 @@ public class AdminService {
         user.setBannedAt(null);
 
         User updatedUser = userRepository.save(user);
+        platformStatsService.adjust(PlatformStat.BANNED_USERS, -1);
 
         return convertToAdminUserResponse(updatedUser);
     }
 
     /**
-     * Delete a user completely
+     * Delete a user: the account is disabled now and a background purge
+     * removes their posts, activity and finally the user row
      */
-    public Map<String, String> deleteUser(Long userId) {
+    public UserPurgeResponse deleteUser(Long userId) {
         getCurrentAdmin();
 
         User user = userRepository
@@ -164,20 +262,50 @@ public class AdminService {
             throw new RuntimeException("Cannot delete admin users");
         }
 
-        String username = user.getUsername();
+        if (user.isDeleted()) {
+            throw new RuntimeException("User is already being deleted");
+        }
 
-        // Delete user (cascade will handle related data)
-        userRepository.delete(user);
+        // The account is disabled right away, its rows are removed in the background
+        UserPurgeTask task = userPurgeService.schedulePurge(user);
 
-        Map<String, String> response = new HashMap<>();
-        response.put(
-            "message",
-            "User '" + username + "' has been permanently deleted"
+        UserPurgeResponse response = userPurgeService.convertToResponse(task);
+        response.setMessage(
+            "User '" + user.getUsername() + "' has been deleted, their content is being removed in the background"
         );
 
         return response;
     }
 
+    /**
+     * Background purges of deleted users, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<UserPurgeResponse> getUserPurges() {
+        getCurrentAdmin();
+
+        return userPurgeService.getPurges();
+    }
+
+    /**
+     * Progress of one purge
+     */
+    @Transactional(readOnly = true)
+    public UserPurgeResponse getUserPurge(Long purgeId) {
+        getCurrentAdmin();
+
+        return userPurgeService.getPurge(purgeId);
+    }
+
+    /**
+     * Resume a purge that gave up
+     */
+    public UserPurgeResponse retryUserPurge(Long purgeId) {
+        getCurrentAdmin();
+
+        return userPurgeService.retryPurge(purgeId);
+    }
+
     // ============================================
     // POST MANAGEMENT
     // ============================================
@@ -185,6 +313,7 @@ public class AdminService {
     /**
      * Get all posts in the system
      */
+    @Transactional(readOnly = true)
     public List<AdminPostResponse> getAllPosts() {
         getCurrentAdmin();
 
@@ -196,9 +325,22 @@ public class AdminService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Stream all posts to the consumer, one DTO at a time, in one query
+     */
+    @Transactional(readOnly = true)
+    public void streamAllPosts(Consumer<AdminPostResponse> consumer) {
+        getCurrentAdmin();
+
+        try (Stream<AdminPostResponse> posts = postRepository.streamAdminPosts()) {
+            posts.forEach(consumer);
+        }
+    }
+
     /**
      * Get specific post details
      */
+    @Transactional(readOnly = true)
     public AdminPostResponse getPostById(Long postId) {
         getCurrentAdmin();
 
@@ -230,6 +372,9 @@ public class AdminService {
         post.setHiddenAt(LocalDateTime.now());
 
         BlogPost updatedPost = postRepository.save(post);
+        postCache.evict(postId);
+        platformStatsService.adjust(PlatformStat.HIDDEN_POSTS, 1);
+        platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
 
         return convertToAdminPostResponse(updatedPost);
     }
@@ -255,6 +400,9 @@ public class AdminService {
         post.setHiddenAt(null);
 
         BlogPost updatedPost = postRepository.save(post);
+        postCache.evict(postId);
+        platformStatsService.adjust(PlatformStat.HIDDEN_POSTS, -1);
+        platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
 
         return convertToAdminPostResponse(updatedPost);
     }
@@ -271,8 +419,18 @@ public class AdminService {
 
         String postTitle = post.getTitle();
 
+        // Release media; deleted from Cloudinary (with its renditions) when
+        // this was the last post using it
+        imageRenditionService.releaseMedia(List.of(post));
+
         // Delete post (cascade will handle comments, likes, notifications)
         postRepository.delete(post);
+        postCache.evict(postId);
+        platformStatsService.adjust(PlatformStat.POSTS, -1);
+        platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
+        if (post.isHidden()) {
+            platformStatsService.adjust(PlatformStat.HIDDEN_POSTS, -1);
+        }
 
         Map<String, String> response = new HashMap<>();
         response.put(
@@ -283,21 +441,78 @@ public class AdminService {
         return response;
     }
 
+    // ============================================
+    // MEDIA STORAGE
+    // ============================================
+
+    /**
+     * Media deletions that failed all their retries
+     */
+    @Transactional(readOnly = true)
+    public List<MediaDeletionTaskResponse> getFailedMediaDeletions() {
+        getCurrentAdmin();
+
+        return mediaDeletionService.getDeadLetters();
+    }
+
+    /**
+     * Re-queue a failed media deletion
+     */
+    public MediaDeletionTaskResponse retryMediaDeletion(Long taskId) {
+        getCurrentAdmin();
+
+        return mediaDeletionService.retryDeadLetter(taskId);
+    }
+
+    /**
+     * Current load of the upload pool
+     */
+    public UploadExecutorStats getUploadStats() {
+        getCurrentAdmin();
+
+        return uploadExecutor.getStats();
+    }
+
+    /**
+     * Report of the last orphaned media collection
+     */
+    public MediaGcReport getLastMediaGcReport() {
+        getCurrentAdmin();
+
+        MediaGcReport report = orphanMediaCollector.getLastReport();
+        if (report == null) {
+            throw new RuntimeException("Orphan media collection has not run yet");
+        }
+        return report;
+    }
+
+    /**
+     * Run an orphaned media collection now
+     */
+    public MediaGcReport runMediaGc(boolean dryRun) {
+        getCurrentAdmin();
+
+        return orphanMediaCollector.collect(dryRun);
+    }
+
     // ============================================
     // STATISTICS & DASHBOARD
     // ============================================
 
     /**
-     * Get dashboard statistics
+     * Get dashboard statistics, read from the materialized counters
+     * (see PlatformStatsService) as of the time returned with them
      */
+    @Transactional(readOnly = true)
     public Map<String, Object> getDashboardStatistics() {
         getCurrentAdmin();
 
+        PlatformStatsService.Snapshot snapshot = platformStatsService.snapshot();
         Map<String, Object> stats = new HashMap<>();
 
         // User statistics
-        long totalUsers = userRepository.count();
-        long bannedUsers = userRepository.countByBanned(true);
+        long totalUsers = snapshot.get(PlatformStat.USERS);
+        long bannedUsers = snapshot.get(PlatformStat.BANNED_USERS);
         long activeUsers = totalUsers - bannedUsers;
 
         stats.put("totalUsers", totalUsers);
@@ -305,8 +520,8 @@ public class AdminService {
         stats.put("bannedUsers", bannedUsers);
 
         // Post statistics
-        long totalPosts = postRepository.count();
-        long hiddenPosts = postRepository.countByHidden(true);
+        long totalPosts = snapshot.get(PlatformStat.POSTS);
+        long hiddenPosts = snapshot.get(PlatformStat.HIDDEN_POSTS);
         long visiblePosts = totalPosts - hiddenPosts;
 
         stats.put("totalPosts", totalPosts);
@@ -314,14 +529,17 @@ public class AdminService {
         stats.put("hiddenPosts", hiddenPosts);
 
         // Report statistics
-        long totalReports = reportRepository.count();
-        long pendingReports = reportRepository.countByStatus("PENDING");
-        long resolvedReports = reportRepository.countByStatus("RESOLVED");
+        long totalReports = snapshot.get(PlatformStat.REPORTS);
+        long pendingReports = snapshot.get(PlatformStat.PENDING_REPORTS);
+        long resolvedReports = snapshot.get(PlatformStat.RESOLVED_REPORTS);
 
         stats.put("totalReports", totalReports);
         stats.put("pendingReports", pendingReports);
         stats.put("resolvedReports", resolvedReports);
 
+        stats.put("asOf", snapshot.getAsOf());
+        stats.put("recomputedAt", snapshot.getRecomputedAt());
+
         return stats;
     }
 
@@ -5,11 +5,14 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.rachnit.blog01.datasource.ReadWriteRoutingDataSource;
 import com.rachnit.blog01.dto.request.LoginRequest;
 import com.rachnit.blog01.dto.request.RegisterRequest;
 import com.rachnit.blog01.dto.response.AuthResponse;
 import com.rachnit.blog01.entity.User;
+import com.rachnit.blog01.enums.PlatformStat;
 import com.rachnit.blog01.enums.Role;
 import com.rachnit.blog01.repository.UserRepository;
 
@@ -28,6 +31,10 @@ public class AuthService {
     @Autowired
     private AuthenticationManager authenticationManager;  // Login validator
 
+    @Autowired
+    private PlatformStatsService platformStatsService;
+
+    @Transactional
     public AuthResponse register(RegisterRequest request) {
         if (userRepository.existsByUsername(request.getUsername())) {
             throw new RuntimeException("Username already exists");
@@ -46,6 +53,7 @@ public class AuthService {
 
         // Save to database
         User savedUser = userRepository.save(user);
+        platformStatsService.adjust(PlatformStat.USERS, 1);
 
         String token = jwtService.generateToken(savedUser);
 
@@ -63,10 +71,16 @@ public class AuthService {
 
        String usernameOrEmail = request.getUsernameOrEmail();
 
-        // Find user by username OR email
-        User user = userRepository.findByUsername(usernameOrEmail)
-                .or(() -> userRepository.findByEmail(usernameOrEmail))
-                .orElseThrow(() -> new RuntimeException("Invalid credentials"));
+        // Find user by username OR email, on the primary (see UserDetailsServiceImpl)
+        User user = ReadWriteRoutingDataSource.onPrimary(() ->
+                userRepository.findByUsername(usernameOrEmail)
+                        .or(() -> userRepository.findByEmail(usernameOrEmail))
+        ).orElseThrow(() -> new RuntimeException("Invalid credentials"));
+
+        // Deleted accounts stay until their purge finishes, but are gone for login
+        if (user.isDeleted()) {
+            throw new RuntimeException("Invalid credentials");
+        }
 
         // Check if user is banned
         if (user.isBanned()) {
@@ -0,0 +1,274 @@
+package com.rachnit.blog01.service;
+
+import com.rachnit.blog01.dto.request.BulkModerationRequest;
+import com.rachnit.blog01.dto.response.BulkModerationResponse;
+import com.rachnit.blog01.dto.response.BulkModerationResult;
+import com.rachnit.blog01.entity.BlogPost;
+import com.rachnit.blog01.entity.User;
+import com.rachnit.blog01.enums.ModerationAction;
+import com.rachnit.blog01.enums.PlatformStat;
+import com.rachnit.blog01.enums.Role;
+import com.rachnit.blog01.repository.PostRepository;
+import com.rachnit.blog01.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bulk hide/unhide/delete of posts and ban/unban of users, for spam waves.
+ *
+ * Targets (ids, or a filter) are processed in chunks of CHUNK_SIZE, each in
+ * its own transaction: the chunk's rows are locked and read in one query,
+ * then changed with one UPDATE or DELETE. A failing chunk is rolled back
+ * and reported as FAILED without undoing the chunks before it.
+ */
+@Service
+public class BulkModerationService {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_TARGETS = 10_000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PlatformStatsService platformStatsService;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private ImageRenditionService imageRenditionService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private void verifyAdmin() {
+        Authentication authentication =
+            SecurityContextHolder.getContext().getAuthentication();
+        User user = userRepository
+            .findByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        if (!user.getRole().equals(Role.ADMIN)) {
+            throw new RuntimeException("Admin access required");
+        }
+    }
+
+    public BulkModerationResponse moderatePosts(BulkModerationRequest request) {
+        verifyAdmin();
+        ModerationAction action = ModerationAction.from(request.getAction(), false);
+        if (action == ModerationAction.HIDE) {
+            requireReason(request, "Hide reason is required");
+        }
+
+        List<Long> ids = resolveTargets(request, () ->
+            postRepository.findIdsForModeration(
+                request.getAuthorId(),
+                request.getCreatedAfter(),
+                request.getCreatedBefore(),
+                PageRequest.of(0, MAX_TARGETS + 1)
+            )
+        );
+        return run(action, ids, chunk -> moderatePostChunk(action, chunk, request.getReason()));
+    }
+
+    public BulkModerationResponse moderateUsers(BulkModerationRequest request) {
+        verifyAdmin();
+        ModerationAction action = ModerationAction.from(request.getAction(), true);
+        if (action == ModerationAction.BAN) {
+            requireReason(request, "Ban reason is required");
+        }
+        if (request.getAuthorId() != null) {
+            throw new RuntimeException("authorId only applies to posts");
+        }
+
+        List<Long> ids = resolveTargets(request, () ->
+            userRepository.findIdsForModeration(
+                request.getCreatedAfter(),
+                request.getCreatedBefore(),
+                PageRequest.of(0, MAX_TARGETS + 1)
+            )
+        );
+        return run(action, ids, chunk -> moderateUserChunk(action, chunk, request.getReason()));
+    }
+
+    private static void requireReason(BulkModerationRequest request, String message) {
+        if (request.getReason() == null || request.getReason().trim().isEmpty()) {
+            throw new RuntimeException(message);
+        }
+    }
+
+    /**
+     * The given ids (deduplicated, in order), or the ids the filter matches
+     */
+    private static List<Long> resolveTargets(
+        BulkModerationRequest request,
+        Supplier<List<Long>> filterQuery
+    ) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean hasFilter =
+            request.getAuthorId() != null ||
+            request.getCreatedAfter() != null ||
+            request.getCreatedBefore() != null;
+
+        if (hasIds == hasFilter) {
+            throw new RuntimeException("Give either ids or a filter (authorId, createdAfter, createdBefore)");
+        }
+
+        List<Long> ids = hasIds
+            ? new ArrayList<>(new LinkedHashSet<>(request.getIds()))
+            : filterQuery.get();
+        if (ids.contains(null)) {
+            throw new RuntimeException("Ids must not be null");
+        }
+        if (ids.size() > MAX_TARGETS) {
+            throw new RuntimeException(
+                "At most " + MAX_TARGETS + " targets per request, narrow the filter or split the ids"
+            );
+        }
+        return ids;
+    }
+
+    private BulkModerationResponse run(
+        ModerationAction action,
+        List<Long> ids,
+        Function<List<Long>, List<BulkModerationResult>> chunkAction
+    ) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        List<BulkModerationResult> results = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            try {
+                results.addAll(transaction.execute(status -> chunkAction.apply(chunk)));
+            } catch (RuntimeException e) {
+                System.err.println("❌ Bulk " + action + " chunk failed: " + e.getMessage());
+                for (Long id : chunk) {
+                    results.add(new BulkModerationResult(id, "FAILED", e.getMessage()));
+                }
+            }
+        }
+
+        sample.stop(meterRegistry.timer("blog.admin.bulk", "action", action.name().toLowerCase()));
+        return new BulkModerationResponse(action.name(), results);
+    }
+
+    private List<BulkModerationResult> moderatePostChunk(
+        ModerationAction action,
+        List<Long> ids,
+        String reason
+    ) {
+        Map<Long, BlogPost> posts = postRepository
+            .findAllByIdForUpdate(ids)
+            .stream()
+            .collect(Collectors.toMap(BlogPost::getId, Function.identity()));
+
+        List<Long> targets = new ArrayList<>();
+        List<BulkModerationResult> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            BlogPost post = posts.get(id);
+            if (post == null) {
+                results.add(new BulkModerationResult(id, "NOT_FOUND", "Post not found"));
+            } else if (action == ModerationAction.HIDE && post.isHidden()) {
+                results.add(new BulkModerationResult(id, "SKIPPED", "Post is already hidden"));
+            } else if (action == ModerationAction.UNHIDE && !post.isHidden()) {
+                results.add(new BulkModerationResult(id, "SKIPPED", "Post is not hidden"));
+            } else {
+                targets.add(id);
+                results.add(new BulkModerationResult(
+                    id,
+                    action == ModerationAction.DELETE ? "DELETED" : "UPDATED",
+                    null
+                ));
+            }
+        }
+        if (targets.isEmpty()) {
+            return results;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        switch (action) {
+            case HIDE -> {
+                postRepository.setHidden(targets, true, reason, now, now);
+                platformStatsService.adjust(PlatformStat.HIDDEN_POSTS, targets.size());
+            }
+            case UNHIDE -> {
+                postRepository.setHidden(targets, false, null, null, now);
+                platformStatsService.adjust(PlatformStat.HIDDEN_POSTS, -targets.size());
+            }
+            case DELETE -> {
+                imageRenditionService.releaseMedia(targets.stream().map(posts::get).toList());
+                long hidden = targets.stream().filter(id -> posts.get(id).isHidden()).count();
+                postRepository.deleteAllByIdIn(targets);
+                platformStatsService.adjust(PlatformStat.POSTS, -targets.size());
+                platformStatsService.adjust(PlatformStat.HIDDEN_POSTS, -hidden);
+            }
+            default -> throw new IllegalArgumentException("Not a post action: " + action);
+        }
+        targets.forEach(postCache::evict);
+        platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
+        return results;
+    }
+
+    private List<BulkModerationResult> moderateUserChunk(
+        ModerationAction action,
+        List<Long> ids,
+        String reason
+    ) {
+        Map<Long, User> users = userRepository
+            .findAllByIdForUpdate(ids)
+            .stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Long> targets = new ArrayList<>();
+        List<BulkModerationResult> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            User user = users.get(id);
+            if (user == null) {
+                results.add(new BulkModerationResult(id, "NOT_FOUND", "User not found"));
+            } else if (action == ModerationAction.BAN && user.getRole().equals(Role.ADMIN)) {
+                results.add(new BulkModerationResult(id, "SKIPPED", "Cannot ban admin users"));
+            } else if (action == ModerationAction.BAN && user.isBanned()) {
+                results.add(new BulkModerationResult(id, "SKIPPED", "User is already banned"));
+            } else if (action == ModerationAction.UNBAN && !user.isBanned()) {
+                results.add(new BulkModerationResult(id, "SKIPPED", "User is not banned"));
+            } else {
+                targets.add(id);
+                results.add(new BulkModerationResult(id, "UPDATED", null));
+            }
+        }
+        if (targets.isEmpty()) {
+            return results;
+        }
+
+        if (action == ModerationAction.BAN) {
+            userRepository.setBanned(targets, true, reason, LocalDateTime.now());
+            platformStatsService.adjust(PlatformStat.BANNED_USERS, targets.size());
+        } else {
+            userRepository.setBanned(targets, false, null, null);
+            platformStatsService.adjust(PlatformStat.BANNED_USERS, -targets.size());
+        }
+        return results;
+    }
+}
@@ -3,28 +3,70 @@ package com.rachnit.blog01.service;
 import com.cloudinary.Cloudinary;
 import com.cloudinary.utils.ObjectUtils;
 import com.rachnit.blog01.config.MediaUploadProperties;
+import com.rachnit.blog01.entity.MediaAsset;
+import com.rachnit.blog01.entity.MediaDeletionTask;
+import com.rachnit.blog01.repository.MediaAssetRepository;
+import com.rachnit.blog01.repository.MediaDeletionTaskRepository;
 import com.rachnit.blog01.util.MediaValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
 public class CloudinaryService {
 
+    private static final int HASH_BUFFER_SIZE = 8192;
+
     private final Cloudinary cloudinary;
     private final MediaValidator mediaValidator;
+    private final MediaAssetRepository mediaAssetRepository;
+    private final MediaDeletionTaskRepository mediaDeletionTaskRepository;
+    private final UploadExecutor uploadExecutor;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
 
     public CloudinaryService(
         Cloudinary cloudinary,
         MediaValidator mediaValidator,
-        MediaUploadProperties uploadProperties
+        MediaUploadProperties uploadProperties,
+        MediaAssetRepository mediaAssetRepository,
+        MediaDeletionTaskRepository mediaDeletionTaskRepository,
+        UploadExecutor uploadExecutor,
+        MeterRegistry meterRegistry,
+        PlatformTransactionManager transactionManager
     ) {
         this.cloudinary = cloudinary;
         this.mediaValidator = mediaValidator;
+        this.mediaAssetRepository = mediaAssetRepository;
+        this.mediaDeletionTaskRepository = mediaDeletionTaskRepository;
+        this.uploadExecutor = uploadExecutor;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    /**
+     * Upload a media file, reusing the stored copy when the exact same
+     * content was uploaded before (matched by SHA-256).
+     * The transfer itself runs on the bounded UploadExecutor pool.
+     *
+     * Must be called outside a transaction: validation, hashing and the
+     * transfer can take minutes and must not hold a pooled connection.
+     * Only the MediaAsset lookup and insert run in (short) transactions.
+     * The returned URL carries one reference: callers whose post is then
+     * not saved must hand it back with releaseMedia.
+     */
     public String uploadMedia(MultipartFile file) {
         // 1. Validate file
         mediaValidator.validateMediaFile(file);
@@ -33,23 +75,94 @@ public class CloudinaryService {
         String contentType = file.getContentType();
         String mediaType = mediaValidator.getMediaType(contentType);
 
-        // 3. Upload to Cloudinary
+        // 3. Upload to Cloudinary (or reuse an identical asset)
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
         try {
-            if (mediaType.equals("image")) {
-                return uploadImage(file);
-            } else {
-                return uploadVideo(file);
+            String contentHash = computeContentHash(file);
+
+            String existingUrl = transactionTemplate.execute(status ->
+                mediaAssetRepository
+                    .findFirstByContentHashOrderByIdAsc(contentHash)
+                    .map(asset -> {
+                        asset.setReferenceCount(asset.getReferenceCount() + 1);
+                        return mediaAssetRepository.save(asset).getUrl();
+                    })
+                    .orElse(null)
+            );
+            if (existingUrl != null) {
+                outcome = "deduplicated";
+                return existingUrl;
             }
+
+            @SuppressWarnings("rawtypes")
+            Map uploadResult = uploadExecutor.execute(file.getSize(), () ->
+                mediaType.equals("image") ? uploadImage(file) : uploadVideo(file)
+            );
+
+            String secureUrl = (String) uploadResult.get("secure_url");
+            String cloudinaryPublicId = (String) uploadResult.get("public_id");
+
+            transactionTemplate.executeWithoutResult(status ->
+                mediaAssetRepository.save(
+                    new MediaAsset(
+                        contentHash,
+                        secureUrl,
+                        cloudinaryPublicId,
+                        mediaType,
+                        file.getSize()
+                    )
+                )
+            );
+
+            outcome = "uploaded";
+            meterRegistry
+                .counter("blog.media.uploaded.bytes", "type", mediaType)
+                .increment(file.getSize());
+            return secureUrl;
         } catch (IOException e) {
             System.err.println("Upload failed: " + e.getMessage());
             throw new RuntimeException(
                 "Failed to upload file to Cloudinary: " + e.getMessage(),
                 e
             );
+        } finally {
+            sample.stop(
+                meterRegistry.timer(
+                    "blog.media.upload",
+                    "type",
+                    mediaType,
+                    "outcome",
+                    outcome
+                )
+            );
         }
     }
 
-    private String uploadImage(MultipartFile file) throws IOException {
+    /**
+     * Stream the file through SHA-256 without loading it all in memory
+     */
+    private String computeContentHash(MultipartFile file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        byte[] buffer = new byte[HASH_BUFFER_SIZE];
+        try (InputStream in = file.getInputStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Map uploadImage(MultipartFile file) throws IOException {
         // Generate unique public ID
         String publicId = generatePublicId(file.getOriginalFilename());
 
@@ -84,10 +197,11 @@ public class CloudinaryService {
         System.out.println("   URL: " + secureUrl);
         System.out.println("   Public ID: " + cloudinaryPublicId);
 
-        return secureUrl;
+        return uploadResult;
     }
 
-    private String uploadVideo(MultipartFile file) throws IOException {
+    @SuppressWarnings("rawtypes")
+    private Map uploadVideo(MultipartFile file) throws IOException {
         // Generate unique public ID
         String publicId = generatePublicId(file.getOriginalFilename());
 
@@ -122,28 +236,170 @@ public class CloudinaryService {
         System.out.println("   URL: " + secureUrl);
         System.out.println("   Public ID: " + cloudinaryPublicId);
 
-        return secureUrl;
+        return uploadResult;
     }
 
-    public void deleteMedia(String publicId, String resourceType) {
-        try {
-            @SuppressWarnings("rawtypes")
-            Map deleteParams = ObjectUtils.asMap("resource_type", resourceType);
+    /**
+     * Upload a generated image rendition (thumbnail, card size...)
+     */
+    public String uploadRendition(byte[] imageBytes, String name) {
+        @SuppressWarnings("rawtypes")
+        Map uploadParams = ObjectUtils.asMap(
+            "resource_type",
+            "image",
+            "public_id",
+            generatePublicId(name),
+            "folder",
+            "blog-posts/renditions",
+            "use_filename",
+            false,
+            "unique_filename",
+            true,
+            "overwrite",
+            false
+        );
 
+        try {
             @SuppressWarnings("rawtypes")
-            Map deleteResult = cloudinary
+            Map uploadResult = cloudinary
                 .uploader()
-                .destroy(publicId, deleteParams);
-            String result = (String) deleteResult.get("result");
+                .upload(imageBytes, uploadParams);
+            return (String) uploadResult.get("secure_url");
+        } catch (IOException e) {
+            throw new RuntimeException(
+                "Failed to upload rendition to Cloudinary: " + e.getMessage(),
+                e
+            );
+        }
+    }
+
+    /**
+     * Register one more post using an already uploaded media URL
+     * (e.g. a post created with a mediaUrl instead of a file)
+     */
+    @Transactional
+    public void retainMedia(String mediaUrl) {
+        if (mediaUrl == null || mediaUrl.isEmpty()) {
+            return;
+        }
 
-            if ("ok".equals(result)) {
-                System.out.println("Media deleted successfully");
-            } else {
-                System.out.println("Media deletion returned: " + result);
+        mediaAssetRepository
+            .findByUrl(mediaUrl)
+            .ifPresent(asset -> {
+                asset.setReferenceCount(asset.getReferenceCount() + 1);
+                mediaAssetRepository.save(asset);
+            });
+    }
+
+    /**
+     * Drop one post's reference to a media URL.
+     * The stored file is only deleted once no post references it anymore.
+     * Returns true when the file was queued for deletion from Cloudinary.
+     */
+    @Transactional
+    public boolean releaseMedia(String mediaUrl) {
+        return releaseMedia(mediaUrl, 1);
+    }
+
+    /**
+     * Drop several posts' references to the same media URL at once
+     * (bulk deletes), same rules as releaseMedia(mediaUrl)
+     */
+    @Transactional
+    public boolean releaseMedia(String mediaUrl, int references) {
+        if (mediaUrl == null || mediaUrl.isEmpty()) {
+            return false;
+        }
+
+        Optional<MediaAsset> tracked = mediaAssetRepository.findByUrl(mediaUrl);
+        if (tracked.isPresent()) {
+            MediaAsset asset = tracked.get();
+            if (asset.getReferenceCount() > references) {
+                asset.setReferenceCount(asset.getReferenceCount() - references);
+                mediaAssetRepository.save(asset);
+                return false;
             }
-        } catch (IOException e) {
-            System.err.println("❌ Failed to delete media: " + e.getMessage());
+
+            mediaAssetRepository.delete(asset);
+            queueMediaDeletion(asset.getPublicId(), asset.getResourceType());
+            return true;
+        }
+
+        // Media uploaded before deduplication existed: not tracked, delete directly
+        if (!isCloudinaryUrl(mediaUrl)) {
+            return false;
+        }
+        String publicId = extractPublicId(mediaUrl);
+        String resourceType = getResourceTypeFromUrl(mediaUrl);
+        if (publicId == null || resourceType == null) {
+            return false;
+        }
+        queueMediaDeletion(publicId, resourceType);
+        return true;
+    }
+
+    /**
+     * Queue a stored file for deletion.
+     * Saved in the caller's transaction and deleted later by
+     * MediaDeletionService, with retries, so a slow or failing
+     * Cloudinary API never blocks or breaks the request.
+     */
+    @Transactional
+    public void queueMediaDeletion(String publicId, String resourceType) {
+        mediaDeletionTaskRepository.save(
+            new MediaDeletionTask(publicId, resourceType)
+        );
+    }
+
+    /**
+     * Delete a file from Cloudinary right away.
+     * Throws on failure; "not found" counts as deleted.
+     */
+    public void destroyMedia(String publicId, String resourceType)
+        throws IOException {
+        @SuppressWarnings("rawtypes")
+        Map deleteParams = ObjectUtils.asMap("resource_type", resourceType);
+
+        @SuppressWarnings("rawtypes")
+        Map deleteResult = cloudinary
+            .uploader()
+            .destroy(publicId, deleteParams);
+        String result = (String) deleteResult.get("result");
+
+        if ("ok".equals(result)) {
+            System.out.println("Media deleted successfully: " + publicId);
+        } else if ("not found".equals(result)) {
+            System.out.println("Media already deleted: " + publicId);
+        } else {
+            throw new IOException("Cloudinary returned: " + result);
+        }
+    }
+
+    /**
+     * List one page of stored assets under a folder (Admin API).
+     * Pass the previous page's "next_cursor" to continue, null to start.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public Map listAssets(
+        String folder,
+        String resourceType,
+        String nextCursor,
+        int maxResults
+    ) throws Exception {
+        Map options = ObjectUtils.asMap(
+            "type",
+            "upload",
+            "resource_type",
+            resourceType,
+            "prefix",
+            folder + "/",
+            "max_results",
+            maxResults
+        );
+        if (nextCursor != null) {
+            options.put("next_cursor", nextCursor);
         }
+        return cloudinary.api().resources(options);
     }
 
     /**
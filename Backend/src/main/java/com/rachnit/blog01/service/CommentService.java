@@ -15,6 +15,7 @@ import com.rachnit.blog01.dto.response.CommentResponse;
 import com.rachnit.blog01.entity.BlogPost;
 import com.rachnit.blog01.entity.Comment;
 import com.rachnit.blog01.entity.User;
+import com.rachnit.blog01.enums.PlatformStat;
 import com.rachnit.blog01.repository.CommentRepository;
 import com.rachnit.blog01.repository.PostRepository;
 import com.rachnit.blog01.repository.UserRepository;
@@ -31,6 +32,12 @@ public class CommentService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private PlatformStatsService platformStatsService;
+
     /**
      * Get current authenticated user
      */
@@ -47,10 +54,13 @@ public class CommentService {
     public CommentResponse createComment(Long postId, CreateCommentRequest request) {
         User currentUser = getCurrentUser();
         BlogPost post = postRepository.findById(postId)
+                .filter(found -> !found.getAuthor().isDeleted())
                 .orElseThrow(() -> new RuntimeException("Post not found"));
         
         Comment comment = new Comment(request.getContent(), currentUser, post);
         Comment savedComment = commentRepository.save(comment);
+        postCache.evict(postId);
+        platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
         
         return convertToCommentResponse(savedComment, currentUser);
     }
@@ -58,11 +68,13 @@ public class CommentService {
     /**
      * Get all comments for a post
      */
+    @Transactional(readOnly = true)
     public List<CommentResponse> getPostComments(Long postId) {
         User currentUser = getCurrentUser();
         
         // Verify post exists
         postRepository.findById(postId)
+                .filter(found -> !found.getAuthor().isDeleted())
                 .orElseThrow(() -> new RuntimeException("Post not found"));
         
         List<Comment> comments = commentRepository.findByPost_IdOrderByCreatedAtDesc(postId);
@@ -83,11 +95,14 @@ public class CommentService {
                 .orElseThrow(() -> new RuntimeException("Comment not found or you don't have permission to delete it"));
         
         commentRepository.delete(comment);
+        postCache.evict(comment.getPost().getId());
+        platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
     }
 
     /**
      * Get comments count for a post
      */
+    @Transactional(readOnly = true)
     public long getCommentsCount(Long postId) {
         BlogPost post = postRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("Post not found"));
@@ -0,0 +1,152 @@
+package com.rachnit.blog01.service;
+
+import com.rachnit.blog01.entity.User;
+import com.rachnit.blog01.repository.CommentRepository;
+import com.rachnit.blog01.repository.LikeRepository;
+import com.rachnit.blog01.repository.NotificationRepository;
+import com.rachnit.blog01.repository.PostRepository;
+import com.rachnit.blog01.repository.SubscriptionRepository;
+import com.rachnit.blog01.repository.UserRepository;
+import com.rachnit.blog01.repository.VersionStamp;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Weak ETags for GET responses, built from a few aggregate queries
+ * (counts, max ids, last update times) instead of the responses themselves,
+ * so an unchanged resource can be answered with 304 before it is assembled.
+ * Post lists use the CONTENT_VERSION counter instead: aggregates over every
+ * post, like and comment cost as much as the page they would save.
+ *
+ * Every tag includes the viewer: responses carry per-user fields
+ * (isLiked, isOwner) and the same URL must not match across accounts.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ContentVersionService {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformStatsService platformStatsService;
+
+    private User getCurrentUser() {
+        Authentication authentication =
+            SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getName();
+        return userRepository
+            .findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
+    /**
+     * All posts and my posts: any post, like or comment changes the counts shown
+     */
+    public String postsETag() {
+        return eTag("posts@" + contentVersion(), getCurrentUser().getId());
+    }
+
+    /**
+     * Personalized feed: all posts, plus who the viewer follows
+     */
+    public String feedETag() {
+        User currentUser = getCurrentUser();
+        return eTag(
+            "feed@" + contentVersion(),
+            currentUser.getId(),
+            subscriptionRepository.findFollowingVersion(currentUser.getId())
+        );
+    }
+
+    public String postETag(Long postId) {
+        return eTag(
+            "post:" + postId,
+            getCurrentUser().getId(),
+            postRepository.findPostVersion(postId),
+            likeRepository.findLikesVersionByPost(postId),
+            commentRepository.findCommentsVersionByPost(postId)
+        );
+    }
+
+    public String commentsETag(Long postId) {
+        return eTag(
+            "comments:" + postId,
+            getCurrentUser().getId(),
+            commentRepository.findCommentsVersionByPost(postId)
+        );
+    }
+
+    /**
+     * Shared by the notification list and the unread summary
+     */
+    public String notificationsETag() {
+        User currentUser = getCurrentUser();
+        return eTag(
+            "notifications",
+            currentUser.getId(),
+            notificationRepository.findNotificationsVersion(currentUser.getId())
+        );
+    }
+
+    /**
+     * One primary key lookup instead of counting posts, likes and comments.
+     * Until the counter row exists every tag is unique, so nothing matches.
+     */
+    private String contentVersion() {
+        OptionalLong version = platformStatsService.contentVersion();
+        return version.isPresent()
+            ? Long.toString(version.getAsLong())
+            : "none:" + ThreadLocalRandom.current().nextLong();
+    }
+
+    private static String eTag(String resource, Long viewerId, VersionStamp... stamps) {
+        StringBuilder version = new StringBuilder(resource)
+            .append('|')
+            .append(viewerId);
+        for (VersionStamp stamp : stamps) {
+            version
+                .append('|').append(stamp.getTotal())
+                .append(',').append(stamp.getMaxId())
+                .append(',').append(stamp.getLastUpdated())
+                .append(',').append(stamp.getMarker());
+        }
+        return "W/\"" + hash(version.toString()) + "\"";
+    }
+
+    private static String hash(String version) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(
+                version.getBytes(StandardCharsets.UTF_8)
+            );
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
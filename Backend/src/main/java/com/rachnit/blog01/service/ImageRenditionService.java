@@ -0,0 +1,219 @@
+package com.rachnit.blog01.service;
+
+import com.rachnit.blog01.entity.BlogPost;
+import com.rachnit.blog01.enums.PlatformStat;
+import com.rachnit.blog01.repository.PostRepository;
+import com.rachnit.blog01.util.ImageResizer;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * Generates resized renditions of post images in the background,
+ * so feeds can load a card-sized image instead of the original upload.
+ */
+@Service
+public class ImageRenditionService {
+
+    static final int THUMBNAIL_WIDTH = 320;
+    static final int CARD_WIDTH = 720;
+    static final int FULL_WIDTH = 1600;
+    static final int PLACEHOLDER_WIDTH = 16;
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CloudinaryService cloudinaryService;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private PlatformStatsService platformStatsService;
+
+    /**
+     * Build thumbnail / card / full renditions and a blur placeholder
+     * for a post image, then store their URLs on the post.
+     * Runs after the post's transaction has committed, and deletes the
+     * temp copy of the upload when done.
+     */
+    @Async("mediaTaskExecutor")
+    public void generateRenditions(
+        Long postId,
+        String mediaUrl,
+        Path imageFile
+    ) {
+        try {
+            // Deduplicated upload: reuse renditions of a post with the same media
+            Optional<BlogPost> twin =
+                postRepository.findFirstByMediaUrlAndThumbnailUrlIsNotNull(
+                    mediaUrl
+                );
+            if (twin.isPresent()) {
+                BlogPost source = twin.get();
+                saveRenditions(
+                    postId,
+                    mediaUrl,
+                    source.getThumbnailUrl(),
+                    source.getCardUrl(),
+                    source.getFullUrl(),
+                    source.getBlurPlaceholder()
+                );
+                return;
+            }
+
+            // Upright, and decoded no larger than the biggest rendition needs
+            BufferedImage original = ImageResizer.read(imageFile, FULL_WIDTH);
+            if (original == null) {
+                // No ImageIO reader for this format (e.g. WebP): keep original only
+                System.out.println(
+                    "No renditions for post " + postId + ": unsupported format"
+                );
+                return;
+            }
+
+            // Renditions never upscale: reuse the next bigger one instead
+            String fullUrl = renditionUrl(original, FULL_WIDTH, mediaUrl, "full");
+            String cardUrl = renditionUrl(original, CARD_WIDTH, fullUrl, "card");
+            String thumbnailUrl = renditionUrl(
+                original,
+                THUMBNAIL_WIDTH,
+                cardUrl,
+                "thumb"
+            );
+            String placeholder = ImageResizer.placeholderDataUri(
+                original,
+                PLACEHOLDER_WIDTH
+            );
+
+            saveRenditions(
+                postId,
+                mediaUrl,
+                thumbnailUrl,
+                cardUrl,
+                fullUrl,
+                placeholder
+            );
+
+            System.out.println("Renditions generated for post " + postId);
+        } catch (Exception e) {
+            // Renditions are an optimization: the post keeps its original media
+            System.err.println(
+                "Failed to generate renditions for post " +
+                    postId +
+                    ": " +
+                    e.getMessage()
+            );
+        } finally {
+            try {
+                Files.deleteIfExists(imageFile);
+            } catch (IOException e) {
+                System.err.println(
+                    "Could not delete " + imageFile + ": " + e.getMessage()
+                );
+            }
+        }
+    }
+
+    private String renditionUrl(
+        BufferedImage original,
+        int width,
+        String largerUrl,
+        String suffix
+    ) throws IOException {
+        if (original.getWidth() <= width) {
+            return largerUrl;
+        }
+        BufferedImage resized = ImageResizer.scaleToWidth(original, width);
+        byte[] bytes = ImageResizer.encode(resized, JPEG_QUALITY);
+        return cloudinaryService.uploadRendition(bytes, suffix);
+    }
+
+    private void saveRenditions(
+        Long postId,
+        String mediaUrl,
+        String thumbnailUrl,
+        String cardUrl,
+        String fullUrl,
+        String placeholder
+    ) {
+        // No-op if the post was deleted or its media replaced meanwhile
+        postRepository.updateRenditions(
+            postId,
+            mediaUrl,
+            thumbnailUrl,
+            cardUrl,
+            fullUrl,
+            placeholder
+        );
+        postCache.evict(postId);
+        platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
+    }
+
+    /**
+     * Release the media of posts deleted together (bulk deletes, user
+     * purges): same bookkeeping as deleting them one by one, but once per
+     * distinct file since spam and prolific users tend to reuse uploads
+     */
+    public void releaseMedia(List<BlogPost> posts) {
+        Map<String, List<BlogPost>> byMedia = posts
+            .stream()
+            .filter(post -> post.getMediaUrl() != null)
+            .collect(Collectors.groupingBy(BlogPost::getMediaUrl));
+
+        byMedia.forEach((mediaUrl, sharing) -> {
+            if (cloudinaryService.releaseMedia(mediaUrl, sharing.size())) {
+                // Posts sharing a file normally share its renditions too
+                sharing
+                    .stream()
+                    .collect(Collectors.toMap(
+                        post -> String.valueOf(post.getThumbnailUrl()),
+                        Function.identity(),
+                        (first, other) -> first
+                    ))
+                    .values()
+                    .forEach(this::deleteRenditions);
+            }
+        });
+    }
+
+    /**
+     * Queue a post's generated renditions for deletion
+     * (called once the original media itself is being deleted)
+     */
+    public void deleteRenditions(BlogPost post) {
+        // Small images reuse one upload for several renditions
+        Set<String> urls = new HashSet<>();
+        urls.add(post.getThumbnailUrl());
+        urls.add(post.getCardUrl());
+        urls.add(post.getFullUrl());
+
+        for (String url : urls) {
+            if (
+                url == null ||
+                url.equals(post.getMediaUrl()) ||
+                !cloudinaryService.isCloudinaryUrl(url)
+            ) {
+                continue;
+            }
+            String publicId = cloudinaryService.extractPublicId(url);
+            if (publicId != null) {
+                cloudinaryService.queueMediaDeletion(publicId, "image");
+            }
+        }
+    }
+}
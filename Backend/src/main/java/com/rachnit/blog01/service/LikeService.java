@@ -6,16 +6,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.rachnit.blog01.dto.response.LikeResponse;
 import com.rachnit.blog01.entity.BlogPost;
 import com.rachnit.blog01.entity.Like;
 import com.rachnit.blog01.entity.User;
+import com.rachnit.blog01.enums.PlatformStat;
 import com.rachnit.blog01.repository.LikeRepository;
 import com.rachnit.blog01.repository.PostRepository;
 import com.rachnit.blog01.repository.UserRepository;
 
-import jakarta.transaction.Transactional;
+import io.micrometer.core.instrument.MeterRegistry;
+
 
 @Service
 @Transactional
@@ -30,6 +33,15 @@ public class LikeService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private PlatformStatsService platformStatsService;
+
     /**
      * Get current authenticated user
      */
@@ -44,8 +56,14 @@ public class LikeService {
      * Like a post
      */
     public LikeResponse likePost(Long postId) {
+        return meterRegistry.timer("blog.likes", "action", "like")
+                .record(() -> doLikePost(postId));
+    }
+
+    private LikeResponse doLikePost(Long postId) {
         User currentUser = getCurrentUser();
         BlogPost post = postRepository.findById(postId)
+                .filter(found -> !found.getAuthor().isDeleted())
                 .orElseThrow(() -> new RuntimeException("Post not found"));
 
         // Check if already liked
@@ -56,6 +74,8 @@ public class LikeService {
         // Create new like
         Like like = new Like(currentUser, post);
         likeRepository.save(like);
+        postCache.evict(postId);
+        platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
 
         // Get updated likes count
         long likesCount = likeRepository.countByPost(post);
@@ -68,6 +88,11 @@ public class LikeService {
      * Unlike a post
     */
     public LikeResponse unlikePost(Long postId) {
+        return meterRegistry.timer("blog.likes", "action", "unlike")
+                .record(() -> doUnlikePost(postId));
+    }
+
+    private LikeResponse doUnlikePost(Long postId) {
         User currentUser = getCurrentUser();
         BlogPost post = postRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("Post not found"));
@@ -80,6 +105,8 @@ public class LikeService {
 
         // Remove like
         likeRepository.delete(like.get());
+        postCache.evict(postId);
+        platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
 
         // Get updated likes count
         long likesCount = likeRepository.countByPost(post);
@@ -90,6 +117,7 @@ public class LikeService {
     /**
      * Check if current user has liked a post
      */
+    @Transactional(readOnly = true)
     public boolean hasUserLikedPost(Long postId) {
         User currentUser = getCurrentUser();
         BlogPost post = postRepository.findById(postId)
@@ -101,6 +129,7 @@ public class LikeService {
     /**
      * Get likes count for a post
      */
+    @Transactional(readOnly = true)
     public long getLikesCount(Long postId) {
         BlogPost post = postRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("Post not found"));
@@ -0,0 +1,159 @@
+package com.rachnit.blog01.service;
+
+import com.rachnit.blog01.config.MediaDeletionProperties;
+import com.rachnit.blog01.dto.response.MediaDeletionTaskResponse;
+import com.rachnit.blog01.entity.MediaDeletionTask;
+import com.rachnit.blog01.repository.MediaDeletionTaskRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Background worker for the media deletion queue.
+ * Retries failed deletions with exponential backoff; tasks that keep
+ * failing are moved to a dead-letter list admins can inspect and retry.
+ */
+@Service
+public class MediaDeletionService {
+
+    static final String STATUS_PENDING = "PENDING";
+    static final String STATUS_DEAD = "DEAD";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Autowired
+    private MediaDeletionTaskRepository taskRepository;
+
+    @Autowired
+    private CloudinaryService cloudinaryService;
+
+    @Autowired
+    private MediaDeletionProperties properties;
+
+    /**
+     * Process deletions that are due (new ones and retries)
+     */
+    @Scheduled(
+        fixedDelayString = "${media.deletion.poll-interval:PT30S}",
+        initialDelayString = "${media.deletion.poll-interval:PT30S}"
+    )
+    public void processDueTasks() {
+        List<MediaDeletionTask> dueTasks =
+            taskRepository.findTop50ByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                STATUS_PENDING,
+                LocalDateTime.now()
+            );
+
+        for (MediaDeletionTask task : dueTasks) {
+            try {
+                cloudinaryService.destroyMedia(
+                    task.getPublicId(),
+                    task.getResourceType()
+                );
+                taskRepository.delete(task);
+            } catch (Exception e) {
+                recordFailure(task, e);
+            }
+        }
+    }
+
+    private void recordFailure(MediaDeletionTask task, Exception e) {
+        int attempts = task.getAttempts() + 1;
+        LocalDateTime now = LocalDateTime.now();
+
+        task.setAttempts(attempts);
+        task.setLastError(truncate(e.getMessage()));
+        task.setUpdatedAt(now);
+
+        if (attempts >= properties.getMaxAttempts()) {
+            task.setStatus(STATUS_DEAD);
+            System.err.println(
+                "❌ Media deletion gave up after " +
+                    attempts +
+                    " attempts: " +
+                    task.getPublicId()
+            );
+        } else {
+            task.setNextAttemptAt(now.plus(backoff(attempts)));
+            System.err.println(
+                "Media deletion failed (attempt " +
+                    attempts +
+                    "), will retry: " +
+                    task.getPublicId()
+            );
+        }
+
+        taskRepository.save(task);
+    }
+
+    /**
+     * initialBackoff * 2^(attempts - 1), capped at maxBackoff
+     */
+    private Duration backoff(int attempts) {
+        int exponent = Math.min(attempts - 1, 20);
+        Duration delay = properties
+            .getInitialBackoff()
+            .multipliedBy(1L << exponent);
+        return delay.compareTo(properties.getMaxBackoff()) > 0
+            ? properties.getMaxBackoff()
+            : delay;
+    }
+
+    /**
+     * Deletions that exhausted their retries
+     */
+    public List<MediaDeletionTaskResponse> getDeadLetters() {
+        return taskRepository
+            .findByStatusOrderByUpdatedAtDesc(STATUS_DEAD)
+            .stream()
+            .map(this::convertToResponse)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Put a dead-lettered deletion back in the queue with fresh retries
+     */
+    public MediaDeletionTaskResponse retryDeadLetter(Long taskId) {
+        MediaDeletionTask task = taskRepository
+            .findById(taskId)
+            .orElseThrow(() -> new RuntimeException("Deletion task not found"));
+
+        if (!STATUS_DEAD.equals(task.getStatus())) {
+            throw new RuntimeException("Deletion task is not in the dead-letter list");
+        }
+
+        task.setStatus(STATUS_PENDING);
+        task.setAttempts(0);
+        task.setNextAttemptAt(LocalDateTime.now());
+        task.setUpdatedAt(LocalDateTime.now());
+
+        return convertToResponse(taskRepository.save(task));
+    }
+
+    private MediaDeletionTaskResponse convertToResponse(MediaDeletionTask task) {
+        return new MediaDeletionTaskResponse(
+            task.getId(),
+            task.getPublicId(),
+            task.getResourceType(),
+            task.getStatus(),
+            task.getAttempts(),
+            task.getLastError(),
+            task.getNextAttemptAt(),
+            task.getCreatedAt(),
+            task.getUpdatedAt()
+        );
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH
+            ? message.substring(0, MAX_ERROR_LENGTH)
+            : message;
+    }
+}
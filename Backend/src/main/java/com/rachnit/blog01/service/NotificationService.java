@@ -36,6 +36,7 @@ public class NotificationService {
     /**
      * Get unread notifications for current user
      */
+    @Transactional(readOnly = true)
     public List<NotificationResponse> getMyNotifications() {
         User currentUser = getCurrentUser();
         List<Notification> notifications = notificationRepository.findByRecipientAndReadFalseOrderByCreatedAtDesc(currentUser);
@@ -48,6 +49,7 @@ public class NotificationService {
     /**
      * Get unread count for notification badge
      */
+    @Transactional(readOnly = true)
     public NotificationSummaryResponse getNotificationSummary() {
         User currentUser = getCurrentUser();
         long unreadCount = notificationRepository.countByRecipientAndReadFalse(currentUser);
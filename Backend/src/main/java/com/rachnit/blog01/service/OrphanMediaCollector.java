@@ -0,0 +1,252 @@
+package com.rachnit.blog01.service;
+
+import com.rachnit.blog01.config.MediaGcProperties;
+import com.rachnit.blog01.config.MediaUploadProperties;
+import com.rachnit.blog01.dto.response.MediaGcReport;
+import com.rachnit.blog01.repository.MediaAssetRepository;
+import com.rachnit.blog01.repository.MediaDeletionTaskRepository;
+import com.rachnit.blog01.repository.PostRepository;
+import com.rachnit.blog01.util.PublicIdSet;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Finds media files in Cloudinary that no post references anymore
+ * (failed updates, lost deletions...) and queues them for deletion.
+ *
+ * Referenced public IDs are loaded page by page into a compact hash set,
+ * then every stored asset in the post folders is checked against it.
+ * Assets younger than the grace period are skipped: their post may not
+ * be committed yet.
+ */
+@Service
+public class OrphanMediaCollector {
+
+    private static final int DB_PAGE_SIZE = 1000;
+
+    // Folder -> Cloudinary resource type
+    private static final Map<String, String> FOLDERS = new LinkedHashMap<>();
+
+    static {
+        FOLDERS.put("blog-posts/images", "image");
+        FOLDERS.put("blog-posts/videos", "video");
+        FOLDERS.put("blog-posts/renditions", "image");
+    }
+
+    @Autowired
+    private CloudinaryService cloudinaryService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MediaAssetRepository mediaAssetRepository;
+
+    @Autowired
+    private MediaDeletionTaskRepository mediaDeletionTaskRepository;
+
+    @Autowired
+    private MediaGcProperties properties;
+
+    @Autowired
+    private MediaUploadProperties uploadProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicReference<MediaGcReport> lastReport =
+        new AtomicReference<>();
+
+    @Scheduled(cron = "${media.gc.cron:0 30 3 * * *}")
+    public void scheduledRun() {
+        if (properties.isEnabled()) {
+            collect(properties.isDryRun());
+        }
+    }
+
+    /**
+     * Report of the last (or currently running) collection, null if none yet
+     */
+    public MediaGcReport getLastReport() {
+        return lastReport.get();
+    }
+
+    /**
+     * Run one collection pass. Only one pass runs at a time.
+     */
+    public MediaGcReport collect(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException(
+                "Orphan media collection is already running"
+            );
+        }
+
+        MediaGcReport report = new MediaGcReport(dryRun);
+        lastReport.set(report);
+
+        try {
+            PublicIdSet referenced = loadReferencedPublicIds();
+            report.setReferencedAssets(referenced.size());
+
+            Instant cutoff = Instant.now().minus(properties.getGracePeriod());
+            for (Map.Entry<String, String> folder : FOLDERS.entrySet()) {
+                scanFolder(
+                    folder.getKey(),
+                    folder.getValue(),
+                    referenced,
+                    cutoff,
+                    report
+                );
+            }
+
+            report.setStatus("COMPLETED");
+        } catch (Exception e) {
+            report.setStatus("FAILED");
+            report.setError(e.getMessage());
+            System.err.println(
+                "❌ Orphan media collection failed: " + e.getMessage()
+            );
+        } finally {
+            report.setFinishedAt(LocalDateTime.now());
+            running.set(false);
+        }
+
+        System.out.println(
+            "Orphan media collection " +
+                report.getStatus().toLowerCase() +
+                (dryRun ? " (dry run)" : "") +
+                ": scanned " +
+                report.getScannedAssets() +
+                ", orphans " +
+                report.getOrphansFound() +
+                ", reclaimed " +
+                uploadProperties.formatBytes(report.getReclaimedBytes())
+        );
+
+        return report;
+    }
+
+    /**
+     * Every public ID still in use: post media and renditions, tracked
+     * (deduplicated) assets, and files already queued for deletion
+     */
+    private PublicIdSet loadReferencedPublicIds() {
+        PublicIdSet.Builder builder = PublicIdSet.builder();
+
+        long afterId = 0;
+        List<Object[]> page;
+        do {
+            page = postRepository.findMediaUrlsAfter(
+                afterId,
+                Pageable.ofSize(DB_PAGE_SIZE)
+            );
+            for (Object[] row : page) {
+                afterId = (Long) row[0];
+                for (int i = 1; i < row.length; i++) {
+                    builder.add(
+                        cloudinaryService.extractPublicId((String) row[i])
+                    );
+                }
+            }
+        } while (page.size() == DB_PAGE_SIZE);
+
+        afterId = 0;
+        do {
+            page = mediaAssetRepository.findPublicIdsAfter(
+                afterId,
+                Pageable.ofSize(DB_PAGE_SIZE)
+            );
+            for (Object[] row : page) {
+                afterId = (Long) row[0];
+                builder.add((String) row[1]);
+            }
+        } while (page.size() == DB_PAGE_SIZE);
+
+        afterId = 0;
+        do {
+            page = mediaDeletionTaskRepository.findPublicIdsAfter(
+                afterId,
+                Pageable.ofSize(DB_PAGE_SIZE)
+            );
+            for (Object[] row : page) {
+                afterId = (Long) row[0];
+                builder.add((String) row[1]);
+            }
+        } while (page.size() == DB_PAGE_SIZE);
+
+        return builder.build();
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void scanFolder(
+        String folder,
+        String resourceType,
+        PublicIdSet referenced,
+        Instant cutoff,
+        MediaGcReport report
+    ) throws Exception {
+        String cursor = null;
+        do {
+            Map page = cloudinaryService.listAssets(
+                folder,
+                resourceType,
+                cursor,
+                properties.getPageSize()
+            );
+            List resources = (List) page.get("resources");
+
+            if (resources != null) {
+                for (Object item : resources) {
+                    Map resource = (Map) item;
+                    report.setScannedAssets(report.getScannedAssets() + 1);
+
+                    String publicId = (String) resource.get("public_id");
+                    if (
+                        referenced.contains(publicId) ||
+                        isWithinGracePeriod(resource, cutoff)
+                    ) {
+                        continue;
+                    }
+
+                    long bytes = resource.get("bytes") instanceof Number
+                        ? ((Number) resource.get("bytes")).longValue()
+                        : 0;
+
+                    report.setOrphansFound(report.getOrphansFound() + 1);
+                    report.setReclaimedBytes(report.getReclaimedBytes() + bytes);
+                    if (!report.isDryRun()) {
+                        cloudinaryService.queueMediaDeletion(
+                            publicId,
+                            resourceType
+                        );
+                        report.setOrphansDeleted(
+                            report.getOrphansDeleted() + 1
+                        );
+                    }
+                }
+            }
+
+            cursor = (String) page.get("next_cursor");
+        } while (cursor != null);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private boolean isWithinGracePeriod(Map resource, Instant cutoff) {
+        Object createdAt = resource.get("created_at");
+        if (createdAt == null) {
+            return true; // unknown age: keep it
+        }
+        try {
+            return Instant.parse(createdAt.toString()).isAfter(cutoff);
+        } catch (Exception e) {
+            return true;
+        }
+    }
+}
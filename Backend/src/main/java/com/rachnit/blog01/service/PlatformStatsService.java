@@ -0,0 +1,237 @@
+package com.rachnit.blog01.service;
+
+import com.rachnit.blog01.entity.PlatformCounter;
+import com.rachnit.blog01.enums.PlatformStat;
+import com.rachnit.blog01.repository.PlatformCounterRepository;
+import com.rachnit.blog01.repository.PostRepository;
+import com.rachnit.blog01.repository.ReportRepository;
+import com.rachnit.blog01.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Dashboard statistics kept as counters instead of counted on every load.
+ *
+ * Write paths call adjust() inside their transaction. Deltas are collected
+ * and applied as atomic UPDATEs just before that transaction commits, in
+ * PlatformStat order, so a hot counter row (posts) is locked only for the
+ * commit itself and never rolls forward for a write that rolled back.
+ *
+ * recompute() recounts everything on a schedule (and at startup) to correct
+ * drift. It locks the counter rows before counting: a writer that already
+ * applied its delta has committed by then and is included in the count, one
+ * that hasn't waits for the recount to commit and then adds its delta.
+ */
+@Service
+public class PlatformStatsService {
+
+    @Autowired
+    private PlatformCounterRepository counterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Add delta to a counter when the current transaction commits
+     */
+    public void adjust(PlatformStat stat, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counterRepository.adjust(stat, delta, LocalDateTime.now());
+            return;
+        }
+        pendingDeltas().add(stat, delta);
+    }
+
+    /**
+     * Current statistics in one query. Until the first recount has stored
+     * every counter they are counted from the tables instead.
+     */
+    @Transactional(readOnly = true)
+    public Snapshot snapshot() {
+        List<PlatformCounter> counters = counterRepository.findAll();
+        if (counters.size() < PlatformStat.values().length) {
+            return new Snapshot(countAll(), LocalDateTime.now(), null);
+        }
+
+        Map<PlatformStat, Long> totals = new EnumMap<>(PlatformStat.class);
+        LocalDateTime asOf = null;
+        LocalDateTime recomputedAt = null;
+        for (PlatformCounter counter : counters) {
+            totals.put(counter.getStat(), counter.getTotal());
+            asOf = latest(asOf, counter.getUpdatedAt());
+            recomputedAt = latest(recomputedAt, counter.getRecomputedAt());
+        }
+        return new Snapshot(totals, asOf, recomputedAt);
+    }
+
+    /**
+     * CONTENT_VERSION as of the last committed write, empty until the first
+     * recount has created its row (bumps before that are lost)
+     */
+    @Transactional(readOnly = true)
+    public OptionalLong contentVersion() {
+        return counterRepository
+            .findById(PlatformStat.CONTENT_VERSION)
+            .map(counter -> OptionalLong.of(counter.getTotal()))
+            .orElse(OptionalLong.empty());
+    }
+
+    /**
+     * Recount every statistic from the tables and store it
+     */
+    @Scheduled(fixedDelayString = "${app.platform-stats.recompute-interval:PT15M}")
+    @Transactional
+    public void recompute() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        LocalDateTime now = LocalDateTime.now();
+
+        // CONTENT_VERSION isn't counted: leave it unlocked for the likes and
+        // comments bumping it, and only create its row the first time
+        Map<PlatformStat, PlatformCounter> counters = new EnumMap<>(PlatformStat.class);
+        for (PlatformStat stat : PlatformStat.values()) {
+            if (stat == PlatformStat.CONTENT_VERSION) {
+                continue;
+            }
+            counterRepository
+                .findForUpdate(stat)
+                .ifPresent(counter -> counters.put(stat, counter));
+        }
+
+        long drift = 0;
+        for (Map.Entry<PlatformStat, Long> actual : countAll().entrySet()) {
+            PlatformCounter counter = counters.get(actual.getKey());
+            if (counter == null) {
+                counterRepository.save(
+                    new PlatformCounter(actual.getKey(), actual.getValue(), now)
+                );
+                continue;
+            }
+            drift += Math.abs(counter.getTotal() - actual.getValue());
+            counter.setTotal(actual.getValue());
+            counter.setUpdatedAt(now);
+            counter.setRecomputedAt(now);
+        }
+
+        if (!counterRepository.existsById(PlatformStat.CONTENT_VERSION)) {
+            counterRepository.save(new PlatformCounter(PlatformStat.CONTENT_VERSION, 0, now));
+        }
+
+        if (drift > 0) {
+            System.out.println("⚠️ Dashboard counters were off by " + drift + ", recounted");
+        }
+        meterRegistry.counter("blog.platform.stats.drift").increment(drift);
+        sample.stop(meterRegistry.timer("blog.platform.stats.recompute"));
+    }
+
+    /**
+     * Every statistic counted from the tables (5 queries)
+     */
+    @Transactional(readOnly = true)
+    public Map<PlatformStat, Long> countAll() {
+        Map<PlatformStat, Long> totals = new EnumMap<>(PlatformStat.class);
+        totals.put(PlatformStat.USERS, userRepository.count());
+        totals.put(PlatformStat.BANNED_USERS, userRepository.countByBanned(true));
+        totals.put(PlatformStat.POSTS, postRepository.count());
+        totals.put(PlatformStat.HIDDEN_POSTS, postRepository.countByHidden(true));
+
+        long reports = 0;
+        totals.put(PlatformStat.PENDING_REPORTS, 0L);
+        totals.put(PlatformStat.RESOLVED_REPORTS, 0L);
+        totals.put(PlatformStat.DISMISSED_REPORTS, 0L);
+        for (Object[] row : reportRepository.countGroupByStatus()) {
+            totals.put(PlatformStat.forReportStatus((String) row[0]), (Long) row[1]);
+            reports += (Long) row[1];
+        }
+        totals.put(PlatformStat.REPORTS, reports);
+        return totals;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a == null || b.isAfter(a) ? b : a;
+    }
+
+    private PendingDeltas pendingDeltas() {
+        for (TransactionSynchronization synchronization :
+            TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingDeltas deltas) {
+                return deltas;
+            }
+        }
+        PendingDeltas deltas = new PendingDeltas();
+        TransactionSynchronizationManager.registerSynchronization(deltas);
+        return deltas;
+    }
+
+    /**
+     * Statistics as read by snapshot()
+     */
+    public static final class Snapshot {
+
+        private final Map<PlatformStat, Long> totals;
+        private final LocalDateTime asOf;
+        private final LocalDateTime recomputedAt;
+
+        private Snapshot(
+            Map<PlatformStat, Long> totals,
+            LocalDateTime asOf,
+            LocalDateTime recomputedAt
+        ) {
+            this.totals = totals;
+            this.asOf = asOf;
+            this.recomputedAt = recomputedAt;
+        }
+
+        public long get(PlatformStat stat) { return totals.get(stat); }
+
+        // Latest change included in the totals
+        public LocalDateTime getAsOf() { return asOf; }
+
+        // Last full recount, null if there hasn't been one yet
+        public LocalDateTime getRecomputedAt() { return recomputedAt; }
+    }
+
+    /**
+     * Deltas of one transaction, applied in its beforeCommit
+     */
+    private final class PendingDeltas implements TransactionSynchronization {
+
+        private final Map<PlatformStat, Long> deltas = new EnumMap<>(PlatformStat.class);
+
+        private void add(PlatformStat stat, long delta) {
+            deltas.merge(stat, delta, Long::sum);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            LocalDateTime now = LocalDateTime.now();
+            deltas.forEach((stat, delta) -> {
+                if (delta != 0) {
+                    counterRepository.adjust(stat, delta, now);
+                }
+            });
+        }
+    }
+}
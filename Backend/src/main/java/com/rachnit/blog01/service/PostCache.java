@@ -0,0 +1,163 @@
+package com.rachnit.blog01.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rachnit.blog01.config.PostCacheProperties;
+import com.rachnit.blog01.dto.response.PostResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-through cache of assembled GET /api/posts/{id} payloads.
+ *
+ * Entries hold everything but the viewer's isLiked, which the caller adds
+ * to its own copy. Loads are single-flight: when a post goes viral and
+ * many requests miss at once, the first one runs the loader and the rest
+ * wait for its result instead of repeating the same queries. The loader
+ * runs on the caller's thread and no cache lock is held while it runs.
+ * Loaders must read the primary (see PostService.getPostById): a payload
+ * loaded from a lagging replica would be served to everyone until the TTL.
+ *
+ * Anything that changes a payload (edit, hide, delete, like, comment,
+ * renditions) must call evict(postId); eviction happens after the
+ * surrounding transaction commits so a concurrent load cannot put the old
+ * state back.
+ */
+@Component
+public class PostCache {
+
+    private final PostCacheProperties properties;
+    private final AsyncCache<Long, PostResponse> cache;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    public PostCache(PostCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxSize())
+            .expireAfterWrite(properties.getTtl())
+            .buildAsync();
+
+        this.hits = meterRegistry.counter("blog.post.cache", "result", "hit");
+        this.misses = meterRegistry.counter("blog.post.cache", "result", "miss");
+        this.coalesced = meterRegistry.counter("blog.post.cache", "result", "coalesced");
+        Gauge.builder("blog.post.cache.size", cache, c -> c.synchronous().estimatedSize())
+            .register(meterRegistry);
+    }
+
+    /**
+     * Cached payload for the post, loading it (once, however many callers
+     * are waiting) on a miss. Returns a copy with isLiked set for the viewer.
+     * Nothing is cached when the loader throws.
+     */
+    public PostResponse get(
+        Long postId,
+        boolean likedByViewer,
+        Function<Long, PostResponse> loader
+    ) {
+        if (!properties.isEnabled()) {
+            return forViewer(loader.apply(postId), likedByViewer);
+        }
+
+        CompletableFuture<PostResponse> loading = new CompletableFuture<>();
+        CompletableFuture<PostResponse> existing = cache.asMap().putIfAbsent(postId, loading);
+
+        if (existing != null) {
+            if (existing.isDone()) {
+                hits.increment();
+            } else {
+                coalesced.increment();
+            }
+            return forViewer(await(existing), likedByViewer);
+        }
+
+        misses.increment();
+        try {
+            PostResponse payload = loader.apply(postId);
+            loading.complete(payload);
+            return forViewer(payload, likedByViewer);
+        } catch (Throwable e) {
+            // Failed futures are dropped by the cache, waiters get the same error.
+            // Errors too: a future left pending would block every later reader
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Drop a post's payload once the current transaction commits
+     */
+    public void evict(Long postId) {
+        afterCommit(() -> cache.synchronous().invalidate(postId));
+    }
+
+    /**
+     * Drop every payload, e.g. after a user and all their posts are deleted
+     */
+    public void evictAll() {
+        afterCommit(() -> cache.synchronous().invalidateAll());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            }
+        );
+    }
+
+    private static PostResponse await(CompletableFuture<PostResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Cached payloads are shared, so every caller gets its own copy
+     */
+    private static PostResponse forViewer(PostResponse payload, boolean likedByViewer) {
+        PostResponse response = new PostResponse(
+            payload.getId(),
+            payload.getTitle(),
+            payload.getContent(),
+            payload.getMediaUrl(),
+            payload.getMediaType(),
+            payload.getAuthorId(),
+            payload.getAuthorUsername(),
+            payload.getLikesCount(),
+            likedByViewer,
+            payload.getCommentsCount(),
+            payload.getCreatedAt(),
+            payload.getUpdatedAt()
+        );
+        response.setThumbnailUrl(payload.getThumbnailUrl());
+        response.setCardUrl(payload.getCardUrl());
+        response.setFullUrl(payload.getFullUrl());
+        response.setBlurPlaceholder(payload.getBlurPlaceholder());
+        return response;
+    }
+}
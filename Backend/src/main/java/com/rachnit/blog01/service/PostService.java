@@ -1,25 +1,42 @@
 package com.rachnit.blog01.service;
 
+import com.rachnit.blog01.datasource.ReadWriteRoutingDataSource;
 import com.rachnit.blog01.dto.request.CreatePostRequest;
 import com.rachnit.blog01.dto.request.UpdatePostRequest;
 import com.rachnit.blog01.dto.response.PostResponse;
+import com.rachnit.blog01.dto.response.PostSummaryResponse;
 import com.rachnit.blog01.entity.BlogPost;
 import com.rachnit.blog01.entity.Notification;
 import com.rachnit.blog01.entity.User;
+import com.rachnit.blog01.enums.PlatformStat;
+import com.rachnit.blog01.exception.UploadCapacityExceededException;
 import com.rachnit.blog01.repository.CommentRepository;
 import com.rachnit.blog01.repository.LikeRepository;
 import com.rachnit.blog01.repository.NotificationRepository;
 import com.rachnit.blog01.repository.PostRepository;
+import com.rachnit.blog01.repository.PostSummaryView;
 import com.rachnit.blog01.repository.SubscriptionRepository;
 import com.rachnit.blog01.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -30,6 +47,11 @@ import org.springframework.web.multipart.MultipartFile;
 @Transactional
 public class PostService {
 
+    // Excerpts in list views are cut from this many leading characters,
+    // the rest of the content is never read from the database
+    static final int EXCERPT_LENGTH = 200;
+    static final int EXCERPT_SOURCE_LENGTH = 400;
+
     @Autowired
     private PostRepository postRepository;
 
@@ -48,9 +70,24 @@ public class PostService {
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Autowired
     private CloudinaryService cloudinaryService;
 
+    @Autowired
+    private ImageRenditionService imageRenditionService;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private PlatformStatsService platformStatsService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     /**
      * Get current authenticated user
      */
@@ -74,7 +111,12 @@ public class PostService {
             currentUser
         );
 
+        // Media may be an already uploaded file: count this post as a user
+        cloudinaryService.retainMedia(request.getMediaUrl());
+
         BlogPost savedPost = postRepository.save(post);
+        platformStatsService.adjust(PlatformStat.POSTS, 1);
+        platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
 
         // Generate notifications for all followers
         createNotificationsForFollowers(savedPost, currentUser);
@@ -83,8 +125,11 @@ public class PostService {
     }
 
     /**
-     * Create post with file upload (Multipart request)
+     * Create post with file upload (Multipart request).
+     * Runs without a transaction: the upload may wait for the bounded upload
+     * pool and take minutes, so only saving the post opens one.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostResponse createPostWithFile(
         String title,
         String content,
@@ -92,47 +137,153 @@ public class PostService {
     ) {
         User currentUser = getCurrentUser();
 
+        // If media file is provided, upload to Cloudinary
         String mediaUrl = null;
         String mediaType = null;
-
-        // If media file is provided, upload to Cloudinary
         if (media != null && !media.isEmpty()) {
-            try {
-                mediaUrl = cloudinaryService.uploadMedia(media);
-
-                String contentType = media.getContentType();
-                if (contentType != null) {
-                    if (contentType.startsWith("image/")) {
-                        mediaType = "image";
-                    } else if (contentType.startsWith("video/")) {
-                        mediaType = "video";
-                    }
-                }
-            } catch (Exception e) {
-                throw new RuntimeException(
-                    "Failed to upload media: " + e.getMessage(),
-                    e
+            mediaUrl = uploadPostMedia(media);
+            mediaType = mediaTypeOf(media);
+        }
+
+        String uploadedUrl = mediaUrl;
+        String uploadedType = mediaType;
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                // Create post
+                BlogPost post = new BlogPost(
+                    title,
+                    content,
+                    uploadedUrl,
+                    uploadedType,
+                    currentUser
                 );
+
+                BlogPost savedPost = postRepository.save(post);
+                platformStatsService.adjust(PlatformStat.POSTS, 1);
+                platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
+
+                if ("image".equals(uploadedType)) {
+                    scheduleRenditions(savedPost, media);
+                }
+
+                createNotificationsForFollowers(savedPost, currentUser);
+
+                return convertToPostResponse(savedPost, currentUser);
+            });
+        } catch (RuntimeException e) {
+            // No post holds the uploaded media's reference
+            cloudinaryService.releaseMedia(uploadedUrl);
+            throw e;
+        }
+    }
+
+    /**
+     * Upload (or deduplicate) a post's media file, outside any transaction
+     */
+    private String uploadPostMedia(MultipartFile media) {
+        try {
+            return cloudinaryService.uploadMedia(media);
+        } catch (UploadCapacityExceededException e) {
+            // Keep the 503 + Retry-After, the client should retry later
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(
+                "Failed to upload media: " + e.getMessage(),
+                e
+            );
+        }
+    }
+
+    private static String mediaTypeOf(MultipartFile media) {
+        String contentType = media.getContentType();
+        if (contentType != null) {
+            if (contentType.startsWith("image/")) {
+                return "image";
+            } else if (contentType.startsWith("video/")) {
+                return "video";
             }
         }
+        return null;
+    }
 
-        // Create post
-        BlogPost post = new BlogPost(
-            title,
-            content,
-            mediaUrl,
-            mediaType,
-            currentUser
-        );
+    /**
+     * Generate image renditions in the background once the post is committed.
+     * The upload is copied to a temp file now (the multipart file is gone after
+     * the request), so queued jobs hold a path instead of the image in heap.
+     */
+    private void scheduleRenditions(BlogPost post, MultipartFile media) {
+        // Resizing would only keep the first frame of an animated GIF
+        if ("image/gif".equalsIgnoreCase(media.getContentType())) {
+            return;
+        }
 
-        BlogPost savedPost = postRepository.save(post);
+        Path imageFile;
+        try {
+            imageFile = Files.createTempFile("rendition-", ".img");
+            media.transferTo(imageFile);
+        } catch (IOException e) {
+            System.err.println("Skipping renditions: " + e.getMessage());
+            return;
+        }
 
-        createNotificationsForFollowers(savedPost, currentUser);
+        Long postId = post.getId();
+        String mediaUrl = post.getMediaUrl();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status == STATUS_COMMITTED) {
+                            submitRenditions(postId, mediaUrl, imageFile);
+                        } else {
+                            deleteQuietly(imageFile);
+                        }
+                    }
+                }
+            );
+        } else {
+            submitRenditions(postId, mediaUrl, imageFile);
+        }
+    }
 
-        return convertToPostResponse(savedPost, currentUser);
+    /**
+     * Hand the job to the media pool. A full queue must not fail the request
+     * (the post is already committed): the post just keeps its original media.
+     */
+    private void submitRenditions(Long postId, String mediaUrl, Path imageFile) {
+        try {
+            imageRenditionService.generateRenditions(postId, mediaUrl, imageFile);
+        } catch (TaskRejectedException e) {
+            deleteQuietly(imageFile);
+            meterRegistry.counter("blog.media.renditions.rejected").increment();
+            System.err.println(
+                "⚠️ Rendition queue full, skipping renditions for post " + postId
+            );
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("Could not delete " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Drop the post's reference to its media; when that deletes the file,
+     * its generated renditions are deleted too
+     */
+    private void releasePostMedia(BlogPost post) {
+        if (cloudinaryService.releaseMedia(post.getMediaUrl())) {
+            imageRenditionService.deleteRenditions(post);
+        }
     }
 
     private void createNotificationsForFollowers(BlogPost post, User author) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
         // Find all users who follow this author
         List<User> followers = subscriptionRepository.findFollowersByFollowing(
             author
@@ -152,19 +303,49 @@ public class PostService {
             notifications.add(notification);
         }
         notificationRepository.saveAll(notifications);
+
+        sample.stop(meterRegistry.timer("blog.notifications.fanout"));
+        meterRegistry
+            .summary("blog.notifications.fanout.recipients")
+            .record(notifications.size());
     }
 
+    /**
+     * Served from PostCache: only the viewer's like is queried per request
+     * (on the replica). Misses load from the primary in their own transaction:
+     * a lagging replica would put the pre-write payload back into the shared
+     * cache right after a write evicted it.
+     */
+    @Transactional(readOnly = true)
     public PostResponse getPostById(Long postId) {
         User currentUser = getCurrentUser();
+        boolean isLiked = likeRepository.existsByUser_IdAndPost_Id(
+            currentUser.getId(),
+            postId
+        );
+        return postCache.get(postId, isLiked, this::loadPostPayloadFromPrimary);
+    }
+
+    private PostResponse loadPostPayloadFromPrimary(Long postId) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.setReadOnly(true);
+        return ReadWriteRoutingDataSource.onPrimary(() ->
+            transaction.execute(status -> loadPostPayload(postId))
+        );
+    }
+
+    private PostResponse loadPostPayload(Long postId) {
         BlogPost post = postRepository
             .findById(postId)
             .orElseThrow(() -> new RuntimeException("Post not found"));
 
-        if (post.isHidden()) {
+        // Deleted users' posts are gone for everyone, before the purge runs
+        if (post.isHidden() || post.getAuthor().isDeleted()) {
             throw new RuntimeException("Post not found");
         }
 
-        return convertToPostResponse(post, currentUser);
+        return buildPostResponse(post, false);
     }
 
     public PostResponse updatePost(Long postId, UpdatePostRequest request) {
@@ -186,7 +367,13 @@ public class PostService {
         if (request.getContent() != null) {
             post.setContent(request.getContent());
         }
-        if (request.getMediaUrl() != null) {
+        if (
+            request.getMediaUrl() != null &&
+            !request.getMediaUrl().equals(post.getMediaUrl())
+        ) {
+            cloudinaryService.retainMedia(request.getMediaUrl());
+            releasePostMedia(post);
+            post.clearRenditions();
             post.setMediaUrl(request.getMediaUrl());
         }
         if (request.getMediaType() != null) {
@@ -194,12 +381,16 @@ public class PostService {
         }
 
         BlogPost updatedPost = postRepository.save(post);
+        postCache.evict(postId);
+        platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
         return convertToPostResponse(updatedPost, currentUser);
     }
 
     /**
-     * Update post with file upload (Multipart request)
+     * Update post with file upload (Multipart request).
+     * Like createPostWithFile, the upload runs outside any transaction.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostResponse updatePostWithFile(
         Long postId,
         String title,
@@ -208,71 +399,66 @@ public class PostService {
     ) {
         User currentUser = getCurrentUser();
 
-        // Verify ownership
-        BlogPost post = postRepository
-            .findByIdAndAuthor(postId, currentUser)
-            .orElseThrow(() ->
-                new RuntimeException(
-                    "Post not found or you don't have permission to edit it"
-                )
-            );
+        // Verify ownership before uploading anything
+        findOwnPostForUpdate(postId, currentUser);
 
-        if (title != null && !title.trim().isEmpty()) {
-            post.setTitle(title);
+        // Upload new media (reuses stored copy if identical)
+        String mediaUrl = null;
+        String mediaType = null;
+        if (media != null && !media.isEmpty()) {
+            mediaUrl = uploadPostMedia(media);
+            mediaType = mediaTypeOf(media);
         }
 
-        if (content != null && !content.trim().isEmpty()) {
-            post.setContent(content);
-        }
+        String uploadedUrl = mediaUrl;
+        String uploadedType = mediaType;
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                BlogPost post = findOwnPostForUpdate(postId, currentUser);
 
-        if (media != null && !media.isEmpty()) {
-            try {
-                // Optional: Delete old media from Cloudinary
-                if (
-                    post.getMediaUrl() != null &&
-                    cloudinaryService.isCloudinaryUrl(post.getMediaUrl())
-                ) {
-                    String oldPublicId = cloudinaryService.extractPublicId(
-                        post.getMediaUrl()
-                    );
-                    String oldResourceType =
-                        cloudinaryService.getResourceTypeFromUrl(
-                            post.getMediaUrl()
-                        );
-                    if (oldPublicId != null && oldResourceType != null) {
-                        cloudinaryService.deleteMedia(
-                            oldPublicId,
-                            oldResourceType
-                        );
-                    }
+                if (title != null && !title.trim().isEmpty()) {
+                    post.setTitle(title);
+                }
+
+                if (content != null && !content.trim().isEmpty()) {
+                    post.setContent(content);
                 }
 
-                // Upload new media
-                String mediaUrl = cloudinaryService.uploadMedia(media);
+                if (uploadedUrl != null) {
+                    // Drop this post's reference to the old media, the file is
+                    // deleted from Cloudinary only if no other post uses it
+                    releasePostMedia(post);
+                    post.clearRenditions();
 
-                String mediaType = null;
-                String contentType = media.getContentType();
-                if (contentType != null) {
-                    if (contentType.startsWith("image/")) {
-                        mediaType = "image";
-                    } else if (contentType.startsWith("video/")) {
-                        mediaType = "video";
-                    }
+                    post.setMediaUrl(uploadedUrl);
+                    post.setMediaType(uploadedType);
                 }
 
-                post.setMediaUrl(mediaUrl);
-                post.setMediaType(mediaType);
-            } catch (Exception e) {
-                throw new RuntimeException(
-                    "Failed to upload media: " + e.getMessage(),
-                    e
-                );
-            }
+                // If neither media nor removeMedia, keep existing media unchanged
+                BlogPost updatedPost = postRepository.save(post);
+                postCache.evict(postId);
+                platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
+
+                if (uploadedUrl != null && "image".equals(updatedPost.getMediaType())) {
+                    scheduleRenditions(updatedPost, media);
+                }
+                return convertToPostResponse(updatedPost, currentUser);
+            });
+        } catch (RuntimeException e) {
+            // The post kept its old media, give the new upload's reference back
+            cloudinaryService.releaseMedia(uploadedUrl);
+            throw e;
         }
+    }
 
-        // If neither media nor removeMedia, keep existing media unchanged
-        BlogPost updatedPost = postRepository.save(post);
-        return convertToPostResponse(updatedPost, currentUser);
+    private BlogPost findOwnPostForUpdate(Long postId, User currentUser) {
+        return postRepository
+            .findByIdAndAuthor(postId, currentUser)
+            .orElseThrow(() ->
+                new RuntimeException(
+                    "Post not found or you don't have permission to edit it"
+                )
+            );
     }
 
     public void deletePost(Long postId) {
@@ -287,30 +473,25 @@ public class PostService {
                 )
             );
 
-        // Delete media from Cloudinary before deleting post
-        if (
-            post.getMediaUrl() != null &&
-            cloudinaryService.isCloudinaryUrl(post.getMediaUrl())
-        ) {
-            String publicId = cloudinaryService.extractPublicId(
-                post.getMediaUrl()
-            );
-            String resourceType = cloudinaryService.getResourceTypeFromUrl(
-                post.getMediaUrl()
-            );
-            if (publicId != null && resourceType != null) {
-                cloudinaryService.deleteMedia(publicId, resourceType);
-            }
-        }
+        // Release media; deleted from Cloudinary when this was the last post using it
+        releasePostMedia(post);
 
         postRepository.delete(post);
+        postCache.evict(postId);
+        platformStatsService.adjust(PlatformStat.POSTS, -1);
+        platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
+        if (post.isHidden()) {
+            platformStatsService.adjust(PlatformStat.HIDDEN_POSTS, -1);
+        }
     }
 
+    @Transactional(readOnly = true)
     public List<PostResponse> getUserPosts(Long userId) {
         User currentUser = getCurrentUser();
         // Verify user exists
         userRepository
             .findById(userId)
+            .filter(user -> !user.isDeleted())
             .orElseThrow(() -> new RuntimeException("User not found"));
 
         List<BlogPost> posts =
@@ -322,27 +503,44 @@ public class PostService {
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<PostResponse> getMyPosts() {
         User currentUser = getCurrentUser();
         return getUserPosts(currentUser.getId());
     }
 
+    @Transactional(readOnly = true)
     public List<PostResponse> getAllPosts() {
-        User currentUser = getCurrentUser();
-        List<BlogPost> posts = postRepository.findAllByOrderByCreatedAtDesc();
-        return posts
-            .stream()
-            .filter(post -> !post.isHidden())
-            .map(post -> convertToPostResponse(post, currentUser))
-            .collect(Collectors.toList());
+        return meterRegistry
+            .timer("blog.feed.assembly", "feed", "all")
+            .record(() -> {
+                User currentUser = getCurrentUser();
+                List<BlogPost> posts =
+                    postRepository.findByAuthor_DeletedAtIsNullOrderByCreatedAtDesc();
+                return posts
+                    .stream()
+                    .filter(post -> !post.isHidden())
+                    .map(post -> convertToPostResponse(post, currentUser))
+                    .collect(Collectors.toList());
+            });
     }
 
+    @Transactional(readOnly = true)
     public List<PostResponse> getPersonalizedFeed() {
+        return meterRegistry
+            .timer("blog.feed.assembly", "feed", "personalized")
+            .record(this::assemblePersonalizedFeed);
+    }
+
+    private List<PostResponse> assemblePersonalizedFeed() {
         User currentUser = getCurrentUser();
 
-        List<User> followedUsers = subscriptionRepository.findUsersFollowedBy(
-            currentUser
-        );
+        // Subscriptions to deleted users remain until their purge runs
+        List<User> followedUsers = subscriptionRepository
+            .findUsersFollowedBy(currentUser)
+            .stream()
+            .filter(user -> !user.isDeleted())
+            .collect(Collectors.toList());
 
         followedUsers.add(currentUser);
 
@@ -360,16 +558,123 @@ public class PostService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * All posts as summaries (excerpt instead of content), one query
+     */
+    @Transactional(readOnly = true)
+    public List<PostSummaryResponse> getAllPostSummaries() {
+        return meterRegistry
+            .timer("blog.feed.assembly", "feed", "all-summary")
+            .record(() ->
+                toSummaries(
+                    postRepository.findAllSummaries(
+                        getCurrentUser().getId(),
+                        EXCERPT_SOURCE_LENGTH
+                    )
+                )
+            );
+    }
+
+    /**
+     * Personalized feed as summaries, one query
+     */
+    @Transactional(readOnly = true)
+    public List<PostSummaryResponse> getPersonalizedFeedSummaries() {
+        return meterRegistry
+            .timer("blog.feed.assembly", "feed", "personalized-summary")
+            .record(() ->
+                toSummaries(
+                    postRepository.findFeedSummaries(
+                        getCurrentUser().getId(),
+                        EXCERPT_SOURCE_LENGTH
+                    )
+                )
+            );
+    }
+
+    @Transactional(readOnly = true)
+    public List<PostSummaryResponse> getMyPostSummaries() {
+        Long currentUserId = getCurrentUser().getId();
+        return toSummaries(
+            postRepository.findSummariesByAuthor(
+                currentUserId,
+                currentUserId,
+                EXCERPT_SOURCE_LENGTH
+            )
+        );
+    }
+
+    private List<PostSummaryResponse> toSummaries(List<PostSummaryView> rows) {
+        return rows
+            .stream()
+            .map(this::convertToPostSummaryResponse)
+            .collect(Collectors.toList());
+    }
+
+    private PostSummaryResponse convertToPostSummaryResponse(PostSummaryView row) {
+        String start = row.getContentStart();
+        // SUBSTRING counts characters, not UTF-16 units
+        boolean more = start.codePointCount(0, start.length()) > EXCERPT_SOURCE_LENGTH;
+        if (more) {
+            start = start.substring(0, start.offsetByCodePoints(0, EXCERPT_SOURCE_LENGTH));
+        }
+        String text = start.strip().replaceAll("\\s+", " ");
+        String excerpt = excerpt(text);
+
+        PostSummaryResponse response = new PostSummaryResponse();
+        response.setId(row.getId());
+        response.setTitle(row.getTitle());
+        response.setExcerpt(excerpt);
+        response.setTruncated(
+            excerpt.length() < text.length() || more
+        );
+        response.setMediaUrl(row.getMediaUrl());
+        response.setMediaType(row.getMediaType());
+        response.setThumbnailUrl(row.getThumbnailUrl());
+        response.setCardUrl(row.getCardUrl());
+        response.setBlurPlaceholder(row.getBlurPlaceholder());
+        response.setAuthorId(row.getAuthorId());
+        response.setAuthorUsername(row.getAuthorUsername());
+        response.setLikesCount(row.getLikesCount());
+        response.setLiked(row.getLikedByViewer() > 0);
+        response.setCommentsCount(row.getCommentsCount());
+        response.setCreatedAt(row.getCreatedAt());
+        response.setUpdatedAt(row.getUpdatedAt());
+        return response;
+    }
+
+    /**
+     * At most EXCERPT_LENGTH characters, cut at the last space when there is
+     * one in the second half (otherwise mid-word)
+     */
+    static String excerpt(String text) {
+        if (text.length() <= EXCERPT_LENGTH) {
+            return text;
+        }
+        int cut = text.lastIndexOf(' ', EXCERPT_LENGTH);
+        if (cut < EXCERPT_LENGTH / 2) {
+            cut = EXCERPT_LENGTH;
+            // Don't split a surrogate pair (emoji)
+            if (Character.isHighSurrogate(text.charAt(cut - 1))) {
+                cut--;
+            }
+        }
+        return text.substring(0, cut).stripTrailing();
+    }
+
     private PostResponse convertToPostResponse(
         BlogPost post,
         User currentUser
     ) {
-        long likesCount = likeRepository.countByPost(post);
         boolean isLiked = likeRepository.existsByUserAndPost(currentUser, post);
+        return buildPostResponse(post, isLiked);
+    }
 
+    private PostResponse buildPostResponse(BlogPost post, boolean isLiked) {
+        long likesCount = likeRepository.countByPost(post);
         long commentsCount = commentRepository.countByPost(post);
 
-        return new PostResponse(
+        PostResponse response = new PostResponse(
             post.getId(),
             post.getTitle(),
             post.getContent(),
@@ -383,5 +688,11 @@ public class PostService {
             post.getCreatedAt(),
             post.getUpdatedAt()
         );
+        response.setThumbnailUrl(post.getThumbnailUrl());
+        response.setCardUrl(post.getCardUrl());
+        response.setFullUrl(post.getFullUrl());
+        response.setBlurPlaceholder(post.getBlurPlaceholder());
+
+        return response;
     }
 }
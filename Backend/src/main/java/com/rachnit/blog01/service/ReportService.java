@@ -4,7 +4,9 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
@@ -16,6 +18,7 @@ import com.rachnit.blog01.dto.request.CreateReportRequest;
 import com.rachnit.blog01.dto.response.ReportResponse;
 import com.rachnit.blog01.entity.Report;
 import com.rachnit.blog01.entity.User;
+import com.rachnit.blog01.enums.PlatformStat;
 import com.rachnit.blog01.repository.ReportRepository;
 import com.rachnit.blog01.repository.UserRepository;
 
@@ -30,6 +33,9 @@ public class ReportService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PlatformStatsService platformStatsService;
+
     /**
      * Get current authenticated user
      */
@@ -46,6 +52,7 @@ public class ReportService {
     public Map<String, Object> submitReport(Long reportedUserId, CreateReportRequest request) {
         User reporter = getCurrentUser();
         User reportedUser = userRepository.findById(reportedUserId)
+                .filter(user -> !user.isDeleted())
                 .orElseThrow(() -> new RuntimeException("Reported user not found"));
         
         // Prevent self-reporting
@@ -61,6 +68,8 @@ public class ReportService {
         // Create the report
         Report report = new Report(request.getReason(), reporter, reportedUser);
         Report savedReport = reportRepository.save(report);
+        platformStatsService.adjust(PlatformStat.REPORTS, 1);
+        platformStatsService.adjust(PlatformStat.PENDING_REPORTS, 1);
         
         Map<String, Object> response = new HashMap<>();
         response.put("message", "Report submitted successfully. Our team will review it shortly.");
@@ -72,6 +81,7 @@ public class ReportService {
     /**
      * Get all reports (admin only - will be enforced by controller)
      */
+    @Transactional(readOnly = true)
     public List<ReportResponse> getAllReports() {
         List<Report> reports = reportRepository.findAllByOrderByCreatedAtDesc();
         
@@ -80,9 +90,21 @@ public class ReportService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Stream all reports to the consumer, one DTO at a time, in one query.
+     * The consumer runs inside the (read-only) transaction.
+     */
+    @Transactional(readOnly = true)
+    public void streamAllReports(Consumer<ReportResponse> consumer) {
+        try (Stream<ReportResponse> reports = reportRepository.streamAllReports()) {
+            reports.forEach(consumer);
+        }
+    }
+
     /**
      * Get reports by status (admin only)
      */
+    @Transactional(readOnly = true)
     public List<ReportResponse> getReportsByStatus(String status) {
         // Validate status
         if (!status.equals("PENDING") && !status.equals("RESOLVED") && !status.equals("DISMISSED")) {
@@ -99,6 +121,7 @@ public class ReportService {
     /**
      * Get specific report by ID (admin only)
      */
+    @Transactional(readOnly = true)
     public ReportResponse getReportById(Long reportId) {
         Report report = reportRepository.findById(reportId)
                 .orElseThrow(() -> new RuntimeException("Report not found"));
@@ -109,6 +132,7 @@ public class ReportService {
     /**
      * Get all reports against a specific user (admin only)
      */
+    @Transactional(readOnly = true)
     public List<ReportResponse> getReportsForUser(Long userId) {
         User reportedUser = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -145,6 +169,8 @@ public class ReportService {
         report.setResolvedAt(LocalDateTime.now());
         
         Report updatedReport = reportRepository.save(report);
+        platformStatsService.adjust(PlatformStat.PENDING_REPORTS, -1);
+        platformStatsService.adjust(PlatformStat.forReportStatus(action), 1);
         
         return convertToReportResponse(updatedReport);
     }
@@ -152,13 +178,15 @@ public class ReportService {
     /**
      * Get report statistics (admin dashboard)
      */
+    @Transactional(readOnly = true)
     public Map<String, Long> getReportStatistics() {
+        PlatformStatsService.Snapshot totals = platformStatsService.snapshot();
         Map<String, Long> stats = new HashMap<>();
         
-        stats.put("totalReports", reportRepository.count());
-        stats.put("pendingReports", reportRepository.countByStatus("PENDING"));
-        stats.put("resolvedReports", reportRepository.countByStatus("RESOLVED"));
-        stats.put("dismissedReports", reportRepository.countByStatus("DISMISSED"));
+        stats.put("totalReports", totals.get(PlatformStat.REPORTS));
+        stats.put("pendingReports", totals.get(PlatformStat.PENDING_REPORTS));
+        stats.put("resolvedReports", totals.get(PlatformStat.RESOLVED_REPORTS));
+        stats.put("dismissedReports", totals.get(PlatformStat.DISMISSED_REPORTS));
         
         return stats;
     }
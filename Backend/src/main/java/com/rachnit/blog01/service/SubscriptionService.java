@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.rachnit.blog01.dto.response.FollowResponse;
 import com.rachnit.blog01.dto.response.UserProfileResponse;
@@ -15,8 +16,6 @@ import com.rachnit.blog01.repository.PostRepository;
 import com.rachnit.blog01.repository.SubscriptionRepository;
 import com.rachnit.blog01.repository.UserRepository;
 
-import jakarta.transaction.Transactional;
-
 @Service
 @Transactional
 public class SubscriptionService {
@@ -46,6 +45,7 @@ public class SubscriptionService {
     public FollowResponse followUser(Long userId) {
         User currentUser = getCurrentUser();
         User targetUser = userRepository.findById(userId)
+                .filter(user -> !user.isDeleted())
                 .orElseThrow(() -> new RuntimeException("User not found"));
             
         // Prevent self-following
@@ -98,6 +98,7 @@ public class SubscriptionService {
     /**
      * Get user profile with social stats
     */
+    @Transactional(readOnly = true)
    public UserProfileResponse getUserProfile(Long userId) {
         User currentUser = getCurrentUser();
         User profileUser = userRepository.findById(userId)
@@ -133,6 +134,7 @@ public class SubscriptionService {
     /**
      * Check if current user is following a specific user
      */
+    @Transactional(readOnly = true)
     public boolean isFollowing(Long userId) {
         User currentUser = getCurrentUser();
         User targetUser = userRepository.findById(userId)
@@ -144,6 +146,7 @@ public class SubscriptionService {
     /**
      * Get current user's profile (convenience method)
      */
+    @Transactional(readOnly = true)
     public UserProfileResponse getMyProfile() {
         User currentUser = getCurrentUser();
         return getUserProfile(currentUser.getId());
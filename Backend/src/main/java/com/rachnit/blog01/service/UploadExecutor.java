@@ -0,0 +1,206 @@
+package com.rachnit.blog01.service;
+
+import com.rachnit.blog01.config.UploadExecutorProperties;
+import com.rachnit.blog01.dto.response.UploadExecutorStats;
+import com.rachnit.blog01.exception.UploadCapacityExceededException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dedicated, bounded pool for Cloudinary uploads.
+ *
+ * Uploads are slow (tens of MB over the network) and used to run on Tomcat
+ * request threads, so a burst of video uploads could leave no thread for
+ * feed reads. Here at most `threads` uploads run and `queueCapacity` wait;
+ * anything beyond that, or beyond maxBytesInTransit, is rejected straight
+ * away with UploadCapacityExceededException (503 + Retry-After) instead of
+ * piling up.
+ *
+ * With spring.threads.virtual.enabled (Java 21+) the workers are virtual
+ * threads; the pool and queue bounds stay the same.
+ */
+@Component
+public class UploadExecutor implements DisposableBean {
+
+    private final UploadExecutorProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong bytesInTransit = new AtomicLong();
+    private final AtomicLong rejectedUploads = new AtomicLong();
+
+    public UploadExecutor(
+        UploadExecutorProperties properties,
+        Environment environment,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(
+            properties.getThreads(),
+            properties.getThreads(),
+            60,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            createThreadFactory(environment),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("blog.media.upload.inflight", this, UploadExecutor::getInFlightUploads)
+            .description("Uploads currently being sent to Cloudinary")
+            .register(meterRegistry);
+        Gauge.builder("blog.media.upload.queued", this, UploadExecutor::getQueuedUploads)
+            .description("Uploads waiting for a free upload thread")
+            .register(meterRegistry);
+        Gauge.builder("blog.media.upload.transit.bytes", this, UploadExecutor::getBytesInTransit)
+            .description("Size of queued and running uploads")
+            .register(meterRegistry);
+        FunctionCounter.builder("blog.media.upload.rejected", this, UploadExecutor::getRejectedUploads)
+            .description("Uploads rejected with 503 because the pool was full")
+            .register(meterRegistry);
+    }
+
+    private static ThreadFactory createThreadFactory(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor("upload-")
+                .getVirtualThreadFactory();
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(
+                runnable,
+                "upload-" + threadNumber.incrementAndGet()
+            );
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Run an upload of the given size on the upload pool and wait for it.
+     * Rejects immediately when the pool, its queue or the byte budget is full.
+     */
+    public <T> T execute(long sizeBytes, Callable<T> upload)
+        throws IOException {
+        reserveBytes(sizeBytes);
+
+        FutureTask<T> task = new FutureTask<>(upload) {
+            @Override
+            protected void done() {
+                // Runs once, whether the upload finished, failed or was cancelled
+                bytesInTransit.addAndGet(-sizeBytes);
+            }
+        };
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            bytesInTransit.addAndGet(-sizeBytes);
+            throw reject("Too many uploads in progress");
+        }
+
+        try {
+            return task.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            cancel(task);
+            throw new RuntimeException("Upload timed out, please try again");
+        } catch (InterruptedException e) {
+            cancel(task);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Upload was interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Current load, for monitoring
+     */
+    public UploadExecutorStats getStats() {
+        return new UploadExecutorStats(
+            getInFlightUploads(),
+            getQueuedUploads(),
+            getBytesInTransit(),
+            rejectedUploads.get(),
+            properties.getThreads(),
+            properties.getQueueCapacity()
+        );
+    }
+
+    public int getInFlightUploads() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueuedUploads() {
+        return executor.getQueue().size();
+    }
+
+    public long getBytesInTransit() {
+        return bytesInTransit.get();
+    }
+
+    public long getRejectedUploads() {
+        return rejectedUploads.get();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void reserveBytes(long sizeBytes) {
+        long limit = properties.getMaxBytesInTransit();
+        while (true) {
+            long current = bytesInTransit.get();
+            // A single upload larger than the budget still goes through when idle
+            if (current > 0 && current + sizeBytes > limit) {
+                throw reject("Too much upload data in progress");
+            }
+            if (bytesInTransit.compareAndSet(current, current + sizeBytes)) {
+                return;
+            }
+        }
+    }
+
+    private void cancel(FutureTask<?> task) {
+        task.cancel(true);
+        executor.remove(task);
+    }
+
+    private UploadCapacityExceededException reject(String reason) {
+        rejectedUploads.incrementAndGet();
+        System.err.println(
+            "Upload rejected: " + reason +
+            " (in flight " + getInFlightUploads() +
+            ", queued " + getQueuedUploads() + ")"
+        );
+        return new UploadCapacityExceededException(
+            "Server is busy processing uploads, please retry shortly",
+            properties.getRetryAfter().toSeconds()
+        );
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.rachnit.blog01.datasource.ReadWriteRoutingDataSource;
 import com.rachnit.blog01.entity.User;
 import com.rachnit.blog01.repository.UserRepository;
 
@@ -18,14 +19,16 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     /**
      * Load user by username for Spring Security authentication
      * This method is called by our JwtRequestFilter and during (login by AuthenticationManager)
+     * Always reads the primary: a lagging replica would reject a user who just
+     * registered and miss a fresh ban or deletion
     */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseGet(() -> userRepository.findByEmail(username)
-                        .orElseThrow(() -> new UsernameNotFoundException(
-                                "User not found with username or email: " + username))
-                );
+        User user = ReadWriteRoutingDataSource.onPrimary(() ->
+                userRepository.findByUsername(username)
+                        .or(() -> userRepository.findByEmail(username))
+        ).orElseThrow(() -> new UsernameNotFoundException(
+                "User not found with username or email: " + username));
         
         return user;
     }
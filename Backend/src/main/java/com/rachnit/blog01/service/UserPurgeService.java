@@ -0,0 +1,410 @@
+package com.rachnit.blog01.service;
+
+import com.rachnit.blog01.config.UserPurgeProperties;
+import com.rachnit.blog01.dto.response.UserPurgeResponse;
+import com.rachnit.blog01.entity.BlogPost;
+import com.rachnit.blog01.entity.User;
+import com.rachnit.blog01.entity.UserPurgeTask;
+import com.rachnit.blog01.enums.PlatformStat;
+import com.rachnit.blog01.repository.PostRepository;
+import com.rachnit.blog01.repository.ReportRepository;
+import com.rachnit.blog01.repository.UserPurgeTaskRepository;
+import com.rachnit.blog01.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background removal of deleted users.
+ *
+ * Deleting a user only marks the account (it can no longer log in or use
+ * its tokens) and queues a UserPurgeTask. This worker then deletes the
+ * user's rows step by step, at most chunkSize rows per transaction, so a
+ * prolific account never turns into one huge cascading DELETE that holds
+ * locks on the likes/comments tables. The user row itself goes last.
+ *
+ * Content other people see goes first: interactions on the user's posts,
+ * then the posts (and their media), then the user's own activity.
+ */
+@Service
+public class UserPurgeService {
+
+    static final String STATUS_PENDING = "PENDING";
+    static final String STATUS_DONE = "DONE";
+    static final String STATUS_FAILED = "FAILED";
+
+    private static final String PHASE_USER = "user";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserPurgeTaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private PlatformStatsService platformStatsService;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private ImageRenditionService imageRenditionService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserPurgeProperties properties;
+
+    // In order; each query selects the next chunk of ids for :userId
+    private final List<Step> steps = List.of(
+        new Step(
+            "post-notifications",
+            "SELECT n.id FROM Notification n WHERE n.post.author.id = :userId",
+            ids -> deleteByIds("Notification", ids)
+        ),
+        new Step(
+            "post-likes",
+            "SELECT l.id FROM Like l WHERE l.post.author.id = :userId",
+            ids -> deleteInteractions("Like", ids)
+        ),
+        new Step(
+            "post-comments",
+            "SELECT c.id FROM Comment c WHERE c.post.author.id = :userId",
+            ids -> deleteInteractions("Comment", ids)
+        ),
+        new Step(
+            "posts",
+            "SELECT p.id FROM BlogPost p WHERE p.author.id = :userId",
+            this::deletePosts
+        ),
+        new Step(
+            "likes",
+            "SELECT l.id FROM Like l WHERE l.user.id = :userId",
+            ids -> deleteInteractions("Like", ids)
+        ),
+        new Step(
+            "comments",
+            "SELECT c.id FROM Comment c WHERE c.author.id = :userId",
+            ids -> deleteInteractions("Comment", ids)
+        ),
+        new Step(
+            "notifications",
+            "SELECT n.id FROM Notification n " +
+                "WHERE n.recipient.id = :userId OR n.actor.id = :userId",
+            ids -> deleteByIds("Notification", ids)
+        ),
+        new Step(
+            "subscriptions",
+            "SELECT s.id FROM Subscription s " +
+                "WHERE s.follower.id = :userId OR s.following.id = :userId",
+            ids -> deleteByIds("Subscription", ids)
+        ),
+        new Step(
+            "reports",
+            "SELECT r.id FROM Report r " +
+                "WHERE r.reporter.id = :userId OR r.reportedUser.id = :userId",
+            this::deleteReports
+        )
+    );
+
+    /**
+     * Mark the user deleted and queue the removal of everything they own.
+     * Reads skip deleted users' posts from now on, cached payloads included.
+     */
+    @Transactional
+    public UserPurgeTask schedulePurge(User user) {
+        user.setDeletedAt(LocalDateTime.now());
+        userRepository.save(user);
+        postCache.evictAll();
+        platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
+
+        return taskRepository.save(new UserPurgeTask(user.getId(), user.getUsername()));
+    }
+
+    /**
+     * Work through pending purges, oldest first, one chunk per transaction.
+     * Stops after maxRunTime and carries on at the next poll: the scheduler
+     * thread is shared with the media deletion and stats jobs.
+     */
+    @Scheduled(
+        fixedDelayString = "${app.user-purge.poll-interval:PT5S}",
+        initialDelayString = "${app.user-purge.poll-interval:PT5S}"
+    )
+    public void processPendingPurges() {
+        long deadline = System.nanoTime() + properties.getMaxRunTime().toNanos();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        for (UserPurgeTask task : taskRepository.findByStatusOrderByCreatedAtAsc(STATUS_PENDING)) {
+            boolean more = true;
+            while (more) {
+                if (System.nanoTime() - deadline > 0) {
+                    return;
+                }
+                try {
+                    more = Boolean.TRUE.equals(transaction.execute(status -> purgeChunk(task.getId())));
+                } catch (RuntimeException e) {
+                    // Rolled back; the next poll retries from the same step
+                    transaction.executeWithoutResult(status -> recordFailure(task.getId(), e));
+                    more = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Delete the next chunk of the purge. Returns true while there is more to do.
+     */
+    private boolean purgeChunk(Long taskId) {
+        UserPurgeTask task = taskRepository.findForUpdate(taskId).orElse(null);
+        if (task == null || !STATUS_PENDING.equals(task.getStatus())) {
+            // Another instance finished it, or it was marked failed meanwhile
+            return false;
+        }
+
+        for (int index = stepIndex(task.getPhase()); index < steps.size(); index++) {
+            Step step = steps.get(index);
+            List<Long> ids = entityManager
+                .createQuery(step.idQuery, Long.class)
+                .setParameter("userId", task.getUserId())
+                .setMaxResults(properties.getChunkSize())
+                .getResultList();
+            if (ids.isEmpty()) {
+                continue;
+            }
+
+            long deleted = step.delete.apply(ids);
+            task.setPhase(step.phase);
+            task.setRowsDeleted(task.getRowsDeleted() + deleted);
+            if ("posts".equals(step.phase)) {
+                task.setPostsDeleted(task.getPostsDeleted() + deleted);
+            }
+            task.setAttempts(0);
+            task.setUpdatedAt(LocalDateTime.now());
+            taskRepository.save(task);
+
+            meterRegistry.counter("blog.user.purge.rows", "phase", step.phase).increment(deleted);
+            return true;
+        }
+
+        finishPurge(task);
+        return false;
+    }
+
+    /**
+     * Everything else is gone, delete the user row itself
+     */
+    private void finishPurge(UserPurgeTask task) {
+        userRepository.findById(task.getUserId()).ifPresent(user -> {
+            platformStatsService.adjust(PlatformStat.USERS, -1);
+            if (user.isBanned()) {
+                platformStatsService.adjust(PlatformStat.BANNED_USERS, -1);
+            }
+            userRepository.delete(user);
+            task.setRowsDeleted(task.getRowsDeleted() + 1);
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        task.setPhase(PHASE_USER);
+        task.setStatus(STATUS_DONE);
+        task.setAttempts(0);
+        task.setUpdatedAt(now);
+        task.setFinishedAt(now);
+        taskRepository.save(task);
+
+        System.out.println(
+            "🧹 Purged user '" + task.getUsername() + "' (" +
+                task.getPostsDeleted() + " posts, " +
+                task.getRowsDeleted() + " rows)"
+        );
+    }
+
+    /**
+     * Steps before the one in progress are done (an empty result moves
+     * the purge to the next step, so a finished step is never revisited)
+     */
+    private int stepIndex(String phase) {
+        for (int index = 0; index < steps.size(); index++) {
+            if (steps.get(index).phase.equals(phase)) {
+                return index;
+            }
+        }
+        return 0;
+    }
+
+    private long deleteByIds(String entity, List<Long> ids) {
+        return entityManager
+            .createQuery("DELETE FROM " + entity + " e WHERE e.id IN :ids")
+            .setParameter("ids", ids)
+            .executeUpdate();
+    }
+
+    /**
+     * Likes and comments: cached payloads of the posts they were on carry
+     * their counts, so those posts are evicted too
+     */
+    private long deleteInteractions(String entity, List<Long> ids) {
+        List<Long> postIds = entityManager
+            .createQuery("SELECT DISTINCT e.post.id FROM " + entity + " e WHERE e.id IN :ids", Long.class)
+            .setParameter("ids", ids)
+            .getResultList();
+
+        long deleted = deleteByIds(entity, ids);
+        postIds.forEach(postCache::evict);
+        platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
+        return deleted;
+    }
+
+    private long deletePosts(List<Long> ids) {
+        List<BlogPost> posts = postRepository.findAllById(ids);
+        imageRenditionService.releaseMedia(posts);
+
+        long hidden = posts.stream().filter(BlogPost::isHidden).count();
+        int deleted = postRepository.deleteAllByIdIn(ids);
+        platformStatsService.adjust(PlatformStat.POSTS, -deleted);
+        platformStatsService.adjust(PlatformStat.HIDDEN_POSTS, -hidden);
+
+        ids.forEach(postCache::evict);
+        platformStatsService.adjust(PlatformStat.CONTENT_VERSION, 1);
+        return deleted;
+    }
+
+    private long deleteReports(List<Long> ids) {
+        for (Object[] row : reportRepository.countGroupByStatusIn(ids)) {
+            long reports = (Long) row[1];
+            platformStatsService.adjust(PlatformStat.REPORTS, -reports);
+            platformStatsService.adjust(PlatformStat.forReportStatus((String) row[0]), -reports);
+        }
+        return reportRepository.deleteAllByIdIn(ids);
+    }
+
+    private void recordFailure(Long taskId, RuntimeException e) {
+        UserPurgeTask task = taskRepository.findById(taskId).orElse(null);
+        if (task == null) {
+            return;
+        }
+
+        int attempts = task.getAttempts() + 1;
+        task.setAttempts(attempts);
+        task.setLastError(truncate(e.getMessage()));
+        task.setUpdatedAt(LocalDateTime.now());
+
+        if (attempts >= properties.getMaxAttempts()) {
+            task.setStatus(STATUS_FAILED);
+            System.err.println(
+                "❌ Purge of user '" + task.getUsername() + "' gave up after " +
+                    attempts + " attempts: " + e.getMessage()
+            );
+        } else {
+            System.err.println(
+                "Purge of user '" + task.getUsername() + "' failed (attempt " +
+                    attempts + "), will retry: " + e.getMessage()
+            );
+        }
+
+        taskRepository.save(task);
+    }
+
+    /**
+     * All purges, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<UserPurgeResponse> getPurges() {
+        return taskRepository
+            .findAllByOrderByCreatedAtDesc()
+            .stream()
+            .map(this::convertToResponse)
+            .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public UserPurgeResponse getPurge(Long purgeId) {
+        return taskRepository
+            .findById(purgeId)
+            .map(this::convertToResponse)
+            .orElseThrow(() -> new RuntimeException("Purge not found"));
+    }
+
+    /**
+     * Resume a failed purge from the step it stopped at, with fresh retries
+     */
+    @Transactional
+    public UserPurgeResponse retryPurge(Long purgeId) {
+        UserPurgeTask task = taskRepository
+            .findById(purgeId)
+            .orElseThrow(() -> new RuntimeException("Purge not found"));
+
+        if (!STATUS_FAILED.equals(task.getStatus())) {
+            throw new RuntimeException("Only failed purges can be retried");
+        }
+
+        task.setStatus(STATUS_PENDING);
+        task.setAttempts(0);
+        task.setUpdatedAt(LocalDateTime.now());
+
+        return convertToResponse(taskRepository.save(task));
+    }
+
+    public UserPurgeResponse convertToResponse(UserPurgeTask task) {
+        return new UserPurgeResponse(
+            task.getId(),
+            task.getUserId(),
+            task.getUsername(),
+            task.getStatus(),
+            task.getPhase(),
+            task.getRowsDeleted(),
+            task.getPostsDeleted(),
+            task.getAttempts(),
+            task.getLastError(),
+            task.getCreatedAt(),
+            task.getUpdatedAt(),
+            task.getFinishedAt()
+        );
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH
+            ? message.substring(0, MAX_ERROR_LENGTH)
+            : message;
+    }
+
+    private static final class Step {
+
+        private final String phase;
+        private final String idQuery;
+        private final Function<List<Long>, Long> delete;
+
+        private Step(String phase, String idQuery, Function<List<Long>, Long> delete) {
+            this.phase = phase;
+            this.idQuery = idQuery;
+            this.delete = delete;
+        }
+    }
+}
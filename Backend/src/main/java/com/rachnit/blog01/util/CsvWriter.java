@@ -0,0 +1,57 @@
+package com.rachnit.blog01.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 CSV output: fields with a comma, quote or line break are
+ * quoted, quotes doubled, rows end with CRLF. Nulls are empty fields.
+ *
+ * Exports are opened in spreadsheets, so text that starts like a formula
+ * (=, +, -, @) is prefixed with a quote and shown as text instead of being
+ * evaluated. Numbers and booleans are written as-is.
+ */
+public final class CsvWriter {
+
+    private final Writer out;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    public void writeRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof Number || value instanceof Boolean) {
+                out.write(value.toString());
+            } else {
+                writeText(value.toString());
+            }
+        }
+        out.write("\r\n");
+    }
+
+    private void writeText(String text) throws IOException {
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        boolean quote = text.indexOf(',') >= 0 ||
+            text.indexOf('"') >= 0 ||
+            text.indexOf('\n') >= 0 ||
+            text.indexOf('\r') >= 0;
+        if (!quote) {
+            out.write(text);
+            return;
+        }
+        out.write('"');
+        out.write(text.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
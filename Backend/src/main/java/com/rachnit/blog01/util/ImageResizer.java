@@ -0,0 +1,311 @@
+package com.rachnit.blog01.util;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Image decoding, resizing and encoding with javax.imageio only
+ */
+public final class ImageResizer {
+
+    private ImageResizer() {}
+
+    /**
+     * Largest source image decoded, in pixels (declared width x height).
+     * Bigger files are rejected before any pixel is read.
+     */
+    public static final long MAX_SOURCE_PIXELS = 100_000_000L;
+
+    // EXIF orientation values (1 = stored upright)
+    private static final int ORIENTATION_NORMAL = 1;
+    private static final int APP1 = 0xFFE1;
+    private static final int START_OF_SCAN = 0xFFDA;
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    /**
+     * Decode an image file upright (EXIF orientation applied), at no more
+     * than about twice minWidth: large sources are subsampled while they are
+     * decoded, so the full-size raster never exists in memory.
+     * Returns null if no ImageIO reader supports the format (the JDK has no
+     * WebP reader); throws if the declared size exceeds MAX_SOURCE_PIXELS.
+     */
+    public static BufferedImage read(Path file, int minWidth) throws IOException {
+        int orientation = readOrientation(file);
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // Only the header is parsed so far
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    throw new IOException(
+                        "Image too large: " + width + "x" + height + " pixels"
+                    );
+                }
+
+                // Rotated images are as wide as the stored image is high
+                int uprightWidth = orientation >= 5 ? height : width;
+                int step = Math.max(1, uprightWidth / minWidth);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+
+                return orient(reader.read(0, param), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * EXIF orientation of a JPEG (1..8), or 1 when absent or not a JPEG.
+     * Walks the marker segments up to the image data, looking for the Exif APP1.
+     */
+    static int readOrientation(Path file) throws IOException {
+        try (
+            DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file))
+            )
+        ) {
+            if (in.readUnsignedShort() != 0xFFD8) {
+                return ORIENTATION_NORMAL;
+            }
+            while (true) {
+                int marker = in.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == START_OF_SCAN) {
+                    return ORIENTATION_NORMAL;
+                }
+                int length = in.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return ORIENTATION_NORMAL;
+                }
+                if (marker == APP1) {
+                    int orientation = exifOrientation(in.readNBytes(length));
+                    if (orientation > 0) {
+                        return orientation;
+                    }
+                } else {
+                    in.skipNBytes(length);
+                }
+            }
+        } catch (EOFException e) {
+            return ORIENTATION_NORMAL;
+        }
+    }
+
+    /**
+     * Orientation tag from IFD0 of an APP1 "Exif" segment, or 0 if missing
+     */
+    private static int exifOrientation(byte[] segment) {
+        if (
+            segment.length < 14 ||
+            !new String(segment, 0, 6, StandardCharsets.ISO_8859_1).equals("Exif\0\0")
+        ) {
+            return 0;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(segment, 6, segment.length - 6).slice();
+        if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (tiff.get(0) != 'M' || tiff.get(1) != 'M') {
+            return 0;
+        }
+        if (tiff.getShort(2) != 42) {
+            return 0;
+        }
+
+        int ifd = tiff.getInt(4);
+        if (ifd < 8 || ifd + 2 > tiff.limit()) {
+            return 0;
+        }
+        int entries = tiff.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                return 0;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == EXIF_ORIENTATION_TAG) {
+                int value = tiff.getShort(entry + 8) & 0xFFFF;
+                return value >= 1 && value <= 8 ? value : 0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Turn a decoded image upright. Values 5-8 swap width and height.
+     */
+    private static BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation == ORIENTATION_NORMAL) {
+            return image;
+        }
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform;
+        switch (orientation) {
+            case 2: // mirrored
+                transform = new AffineTransform(-1, 0, 0, 1, w, 0);
+                break;
+            case 3: // upside down
+                transform = new AffineTransform(-1, 0, 0, -1, w, h);
+                break;
+            case 4: // mirrored upside down
+                transform = new AffineTransform(1, 0, 0, -1, 0, h);
+                break;
+            case 5: // mirrored, rotated 90 counter-clockwise
+                transform = new AffineTransform(0, 1, 1, 0, 0, 0);
+                break;
+            case 6: // rotated 90 clockwise
+                transform = new AffineTransform(0, 1, -1, 0, h, 0);
+                break;
+            case 7: // mirrored, rotated 90 clockwise
+                transform = new AffineTransform(0, -1, -1, 0, h, w);
+                break;
+            case 8: // rotated 90 counter-clockwise
+                transform = new AffineTransform(0, -1, 1, 0, 0, w);
+                break;
+            default:
+                return image;
+        }
+
+        boolean swap = orientation >= 5;
+        BufferedImage target = new BufferedImage(
+            swap ? h : w,
+            swap ? w : h,
+            hasAlpha(image) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB
+        );
+        Graphics2D g = target.createGraphics();
+        try {
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * Scale down to the given width, keeping aspect ratio.
+     * Halves the size step by step so bilinear filtering stays sharp.
+     */
+    public static BufferedImage scaleToWidth(BufferedImage source, int targetWidth) {
+        int targetHeight = Math.max(
+            1,
+            (int) Math.round(
+                (double) source.getHeight() * targetWidth / source.getWidth()
+            )
+        );
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, hasAlpha(source));
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    /**
+     * Encode as JPEG, or PNG when the image has transparency
+     */
+    public static byte[] encode(BufferedImage image, float jpegQuality)
+        throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        if (hasAlpha(image)) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(
+            "jpeg"
+        );
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Tiny low-quality version inlined as a data URI, shown blurred while
+     * the real image loads
+     */
+    public static String placeholderDataUri(BufferedImage source, int width)
+        throws IOException {
+        BufferedImage tiny = scaleToWidth(source, Math.min(width, source.getWidth()));
+        String mime = hasAlpha(tiny) ? "image/png" : "image/jpeg";
+        byte[] bytes = encode(tiny, 0.5f);
+        return (
+            "data:" + mime + ";base64," + Base64.getEncoder().encodeToString(bytes)
+        );
+    }
+
+    public static boolean hasAlpha(BufferedImage image) {
+        return image.getColorModel().hasAlpha();
+    }
+
+    private static BufferedImage draw(
+        BufferedImage source,
+        int width,
+        int height,
+        boolean alpha
+    ) {
+        BufferedImage target = new BufferedImage(
+            width,
+            height,
+            alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB
+        );
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(
+                RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BILINEAR
+            );
+            g.setRenderingHint(
+                RenderingHints.KEY_RENDERING,
+                RenderingHints.VALUE_RENDER_QUALITY
+            );
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+}
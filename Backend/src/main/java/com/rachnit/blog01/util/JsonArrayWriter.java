@@ -0,0 +1,51 @@
+package com.rachnit.blog01.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes a JSON array one element at a time, so a large list never has to
+ * be held in memory. Elements are serialized with the application's
+ * ObjectMapper (same output as a List body); the generator buffers and
+ * flushes to the stream when its buffer fills, not after every element.
+ *
+ * Deliberately not Closeable: if producing the elements fails before the
+ * first buffer is flushed, dropping the writer leaves the response
+ * uncommitted and the normal error response can still be sent.
+ */
+public final class JsonArrayWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    public JsonArrayWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        generator.writeStartArray();
+    }
+
+    /**
+     * Append one element; IOException is unchecked so this fits a Consumer
+     */
+    public void write(Object element) {
+        try {
+            writer.writeValue(generator, element);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * End the array and flush; call once all elements are written
+     */
+    public void finish() throws IOException {
+        generator.writeEndArray();
+        generator.close();
+    }
+}
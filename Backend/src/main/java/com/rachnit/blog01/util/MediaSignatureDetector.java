@@ -0,0 +1,158 @@
+package com.rachnit.blog01.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Detects the real media type of a file from its first bytes ("magic numbers")
+ * instead of trusting the client-supplied content type.
+ */
+public final class MediaSignatureDetector {
+
+    /**
+     * Number of leading bytes needed to recognize every supported format
+     */
+    public static final int HEADER_LENGTH = 512;
+
+    private static final byte[] JPEG = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF };
+    private static final byte[] PNG = {
+        (byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A,
+    };
+    private static final byte[] GIF87A = ascii("GIF87a");
+    private static final byte[] GIF89A = ascii("GIF89a");
+    private static final byte[] RIFF = ascii("RIFF");
+    private static final byte[] WEBP = ascii("WEBP");
+    private static final byte[] EBML = { 0x1A, 0x45, (byte) 0xDF, (byte) 0xA3 };
+    private static final byte[] WEBM_DOCTYPE = ascii("webm");
+    private static final byte[] FTYP = ascii("ftyp");
+    private static final String QUICKTIME_BRAND = "qt  ";
+
+    // 'ftyp' major brands of MP4 video. The same container also carries
+    // still images (HEIC 'heic'/'mif1', AVIF 'avif'), which must not pass as video
+    private static final Set<String> MP4_BRANDS = Set.of(
+        "isom",
+        "iso2",
+        "iso4",
+        "iso5",
+        "iso6",
+        "mp41",
+        "mp42",
+        "mp71",
+        "avc1",
+        "M4V ",
+        "M4VH",
+        "M4VP",
+        "mmp4",
+        "dash",
+        "f4v ",
+        "3gp4",
+        "3gp5",
+        "3gp6"
+    );
+
+    // Top-level atoms that start old QuickTime files written without 'ftyp'
+    private static final String[] QUICKTIME_ATOMS = {
+        "moov",
+        "mdat",
+        "wide",
+        "free",
+        "skip",
+        "pnot",
+    };
+
+    private MediaSignatureDetector() {}
+
+    /**
+     * Return the content type matching the header bytes, or null if unknown
+     */
+    public static String detect(byte[] header, int length) {
+        if (startsWith(header, length, 0, JPEG)) {
+            return "image/jpeg";
+        }
+        if (startsWith(header, length, 0, PNG)) {
+            return "image/png";
+        }
+        if (
+            startsWith(header, length, 0, GIF87A) ||
+            startsWith(header, length, 0, GIF89A)
+        ) {
+            return "image/gif";
+        }
+        if (
+            startsWith(header, length, 0, RIFF) &&
+            startsWith(header, length, 8, WEBP)
+        ) {
+            return "image/webp";
+        }
+        if (startsWith(header, length, 0, EBML)) {
+            // WebM is a Matroska subset, told apart by the DocType element
+            return indexOf(header, length, WEBM_DOCTYPE) >= 0
+                ? "video/webm"
+                : null;
+        }
+        if (startsWith(header, length, 4, FTYP) && length >= 12) {
+            String majorBrand = new String(header, 8, 4, StandardCharsets.US_ASCII);
+            if (majorBrand.equals(QUICKTIME_BRAND)) {
+                return "video/quicktime";
+            }
+            return MP4_BRANDS.contains(majorBrand) ? "video/mp4" : null;
+        }
+        for (String atom : QUICKTIME_ATOMS) {
+            if (startsWith(header, length, 4, ascii(atom))) {
+                return "video/quicktime";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * MP4 and QuickTime share the same container (ISO base media file format)
+     * and are routinely labeled as each other by browsers and phones
+     */
+    public static boolean isCompatible(String declaredType, String detectedType) {
+        if (declaredType == null || detectedType == null) {
+            return false;
+        }
+        if (declaredType.equals(detectedType)) {
+            return true;
+        }
+        return isIsoMediaType(declaredType) && isIsoMediaType(detectedType);
+    }
+
+    private static boolean isIsoMediaType(String contentType) {
+        return (
+            contentType.equals("video/mp4") ||
+            contentType.equals("video/quicktime")
+        );
+    }
+
+    private static boolean startsWith(
+        byte[] data,
+        int length,
+        int offset,
+        byte[] prefix
+    ) {
+        if (offset + prefix.length > length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(byte[] data, int length, byte[] pattern) {
+        for (int i = 0; i + pattern.length <= length; i++) {
+            if (startsWith(data, length, i, pattern)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -1,6 +1,8 @@
 package com.rachnit.blog01.util;
 
 import com.rachnit.blog01.config.MediaUploadProperties;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 import org.springframework.stereotype.Component;
@@ -47,6 +49,10 @@ public class MediaValidator {
         validateFileName(file.getOriginalFilename());
 
         validateFileExtension(file.getOriginalFilename(), contentType);
+
+        validateFileSignature(file, contentType);
+
+        validateVideoDuration(file, contentType);
     }
 
     private void validateFileExists(MultipartFile file) {
@@ -195,6 +201,87 @@ public class MediaValidator {
         }
     }
 
+    /**
+     * Check the file's leading bytes really are the declared format.
+     * Only the header is read, so mislabeled files are rejected before upload.
+     */
+    private void validateFileSignature(MultipartFile file, String contentType) {
+        byte[] header = new byte[MediaSignatureDetector.HEADER_LENGTH];
+        int length;
+        try (InputStream in = file.getInputStream()) {
+            length = in.readNBytes(header, 0, header.length);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read file content");
+        }
+
+        String declaredType = contentType.toLowerCase().trim();
+        String detectedType = MediaSignatureDetector.detect(header, length);
+
+        if (detectedType == null) {
+            throw new IllegalArgumentException(
+                "File content is not a recognized image or video format"
+            );
+        }
+
+        if (!MediaSignatureDetector.isCompatible(declaredType, detectedType)) {
+            throw new IllegalArgumentException(
+                "File content does not match its type. Declared: '" +
+                    declaredType +
+                    "', actual: '" +
+                    detectedType +
+                    "'"
+            );
+        }
+    }
+
+    /**
+     * Enforce the maximum video duration by reading the MP4/QuickTime header.
+     * WebM has no fixed header layout and is not checked here.
+     */
+    private void validateVideoDuration(MultipartFile file, String contentType) {
+        int maxDuration = uploadProperties.getMaxVideoDuration();
+        String type = contentType.toLowerCase().trim();
+        if (
+            maxDuration <= 0 ||
+            !(type.equals("video/mp4") || type.equals("video/quicktime"))
+        ) {
+            return;
+        }
+
+        Mp4MetadataReader.VideoMetadata metadata = readVideoMetadata(file);
+        if (metadata == null || !metadata.hasDuration()) {
+            throw new IllegalArgumentException(
+                "Unable to determine video duration"
+            );
+        }
+
+        if (metadata.getDurationSeconds() > maxDuration) {
+            throw new IllegalArgumentException(
+                "Video too long. Maximum duration: " +
+                    maxDuration +
+                    "s, your video: " +
+                    Math.round(metadata.getDurationSeconds()) +
+                    "s"
+            );
+        }
+    }
+
+    /**
+     * Read duration, resolution and codec of an MP4/QuickTime file.
+     * Returns null if the file has no movie header.
+     */
+    public Mp4MetadataReader.VideoMetadata readVideoMetadata(
+        MultipartFile file
+    ) {
+        try (InputStream in = file.getInputStream()) {
+            return Mp4MetadataReader.read(in);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(
+                "Invalid video file: " + e.getMessage()
+            );
+        }
+    }
+
     private String getFileExtension(String fileName) {
         if (fileName == null || fileName.isEmpty()) {
             return null;
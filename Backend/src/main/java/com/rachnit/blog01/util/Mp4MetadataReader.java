@@ -0,0 +1,360 @@
+package com.rachnit.blog01.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal streaming reader for MP4 / QuickTime (ISO base media) files.
+ *
+ * Walks the box tree looking for moov/mvhd (duration), the video track's
+ * tkhd (resolution) and stsd (codec). Boxes we don't need, including the
+ * media data itself, are skipped instead of read, so only a few hundred
+ * bytes are actually parsed even for large files.
+ */
+public final class Mp4MetadataReader {
+
+    private static final int MAX_DEPTH = 8;
+
+    private Mp4MetadataReader() {}
+
+    /**
+     * Read video metadata from the stream, or return null if no 'moov' box exists
+     */
+    public static VideoMetadata read(InputStream input) throws IOException {
+        BoxInput in = new BoxInput(input);
+        ParseState state = new ParseState();
+
+        // Top-level boxes: skip everything (ftyp, mdat, free...) until moov
+        while (!state.moovFound) {
+            BoxHeader header = BoxHeader.read(in, Long.MAX_VALUE);
+            if (header == null) {
+                break;
+            }
+            if (header.type.equals("moov")) {
+                state.moovFound = true;
+                parseChildren(in, header.end, state, null, 1);
+            } else if (header.end == Long.MAX_VALUE) {
+                // Last box runs to end of file, there is no moov after it
+                break;
+            } else {
+                in.skipTo(header.end);
+            }
+        }
+
+        if (!state.moovFound) {
+            return null;
+        }
+
+        long duration = state.movieDuration > 0
+            ? state.movieDuration
+            : state.fragmentDuration;
+        double durationSeconds = state.timescale > 0 && duration > 0
+            ? (double) duration / state.timescale
+            : -1;
+
+        TrackInfo video = state.videoTrack;
+        return new VideoMetadata(
+            durationSeconds,
+            video != null ? video.width : 0,
+            video != null ? video.height : 0,
+            video != null ? video.codec : null
+        );
+    }
+
+    private static void parseChildren(
+        BoxInput in,
+        long end,
+        ParseState state,
+        TrackInfo track,
+        int depth
+    ) throws IOException {
+        if (depth > MAX_DEPTH) {
+            return;
+        }
+
+        while (in.position() + 8 <= end) {
+            BoxHeader header = BoxHeader.read(in, end);
+            if (header == null) {
+                return;
+            }
+
+            switch (header.type) {
+                case "mvhd":
+                    readMovieHeader(in, state);
+                    break;
+                case "mvex":
+                case "mdia":
+                case "minf":
+                case "stbl":
+                    parseChildren(in, header.end, state, track, depth + 1);
+                    break;
+                case "mehd":
+                    readMovieExtendsHeader(in, state);
+                    break;
+                case "trak":
+                    TrackInfo trak = new TrackInfo();
+                    parseChildren(in, header.end, state, trak, depth + 1);
+                    if (trak.isVideo() && state.videoTrack == null) {
+                        state.videoTrack = trak;
+                    }
+                    break;
+                case "tkhd":
+                    if (track != null) {
+                        readTrackHeader(in, header, track);
+                    }
+                    break;
+                case "hdlr":
+                    if (track != null) {
+                        in.skip(8); // version/flags + pre_defined
+                        track.handlerType = in.readType();
+                    }
+                    break;
+                case "stsd":
+                    if (track != null) {
+                        in.skip(8); // version/flags + entry_count
+                        in.skip(4); // first sample entry size
+                        track.codec = in.readType().trim();
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            in.skipTo(header.end);
+        }
+    }
+
+    private static void readMovieHeader(BoxInput in, ParseState state)
+        throws IOException {
+        int version = in.readUnsignedByte();
+        in.skip(3); // flags
+        if (version == 1) {
+            in.skip(16); // creation + modification time
+            state.timescale = in.readUInt32();
+            state.movieDuration = in.readInt64();
+        } else {
+            in.skip(8);
+            state.timescale = in.readUInt32();
+            long duration = in.readUInt32();
+            // All ones means "unknown duration"
+            state.movieDuration = duration == 0xFFFFFFFFL ? 0 : duration;
+        }
+    }
+
+    private static void readMovieExtendsHeader(BoxInput in, ParseState state)
+        throws IOException {
+        int version = in.readUnsignedByte();
+        in.skip(3);
+        state.fragmentDuration = version == 1 ? in.readInt64() : in.readUInt32();
+    }
+
+    private static void readTrackHeader(
+        BoxInput in,
+        BoxHeader header,
+        TrackInfo track
+    ) throws IOException {
+        // Width and height are the last 8 bytes, as 16.16 fixed point
+        long payload = header.end - in.position();
+        if (payload < 8) {
+            return;
+        }
+        in.skip(payload - 8);
+        track.width = (int) (in.readUInt32() >>> 16);
+        track.height = (int) (in.readUInt32() >>> 16);
+    }
+
+    /**
+     * Duration, resolution and codec of a video file
+     */
+    public static class VideoMetadata {
+
+        private final double durationSeconds;
+        private final int width;
+        private final int height;
+        private final String codec;
+
+        public VideoMetadata(
+            double durationSeconds,
+            int width,
+            int height,
+            String codec
+        ) {
+            this.durationSeconds = durationSeconds;
+            this.width = width;
+            this.height = height;
+            this.codec = codec;
+        }
+
+        /**
+         * Duration in seconds, or -1 when the file doesn't declare one
+         */
+        public double getDurationSeconds() {
+            return durationSeconds;
+        }
+
+        public boolean hasDuration() {
+            return durationSeconds >= 0;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+
+        public String getCodec() {
+            return codec;
+        }
+
+        @Override
+        public String toString() {
+            return (
+                String.format("%.1fs", durationSeconds) +
+                ", " +
+                width +
+                "x" +
+                height +
+                ", codec " +
+                codec
+            );
+        }
+    }
+
+    private static class ParseState {
+
+        boolean moovFound;
+        long timescale;
+        long movieDuration;
+        long fragmentDuration;
+        TrackInfo videoTrack;
+    }
+
+    private static class TrackInfo {
+
+        String handlerType;
+        int width;
+        int height;
+        String codec;
+
+        boolean isVideo() {
+            return "vide".equals(handlerType);
+        }
+    }
+
+    private static class BoxHeader {
+
+        final String type;
+        final long end;
+
+        private BoxHeader(String type, long end) {
+            this.type = type;
+            this.end = end;
+        }
+
+        /**
+         * Read the next box header, or null at end of stream / parent box
+         */
+        static BoxHeader read(BoxInput in, long parentEnd) throws IOException {
+            long start = in.position();
+            long size;
+            try {
+                size = in.readUInt32();
+            } catch (EOFException e) {
+                return null;
+            }
+            String type = in.readType();
+
+            if (size == 1) {
+                size = in.readInt64(); // 64-bit "largesize"
+            } else if (size == 0) {
+                // Box extends to the end of its parent (or of the file)
+                return new BoxHeader(type, parentEnd);
+            }
+
+            long headerLength = in.position() - start;
+            if (size < headerLength) {
+                throw new IOException("Invalid size for box '" + type + "'");
+            }
+
+            long end = start + size;
+            if (end > parentEnd) {
+                throw new IOException("Box '" + type + "' overflows its parent");
+            }
+            return new BoxHeader(type, end);
+        }
+    }
+
+    /**
+     * Input stream wrapper that tracks the absolute position.
+     * skip() on a file-backed stream seeks rather than reading.
+     */
+    private static class BoxInput {
+
+        private final InputStream in;
+        private long position;
+
+        BoxInput(InputStream in) {
+            this.in = in;
+        }
+
+        long position() {
+            return position;
+        }
+
+        int readUnsignedByte() throws IOException {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            position++;
+            return b;
+        }
+
+        long readUInt32() throws IOException {
+            byte[] bytes = readBytes(4);
+            return (
+                ((long) (bytes[0] & 0xFF) << 24) |
+                ((bytes[1] & 0xFF) << 16) |
+                ((bytes[2] & 0xFF) << 8) |
+                (bytes[3] & 0xFF)
+            );
+        }
+
+        long readInt64() throws IOException {
+            return (readUInt32() << 32) | readUInt32();
+        }
+
+        String readType() throws IOException {
+            return new String(readBytes(4), StandardCharsets.ISO_8859_1);
+        }
+
+        void skip(long count) throws IOException {
+            if (count <= 0) {
+                return;
+            }
+            in.skipNBytes(count);
+            position += count;
+        }
+
+        void skipTo(long target) throws IOException {
+            if (target == Long.MAX_VALUE) {
+                // Box runs to end of file: nothing after it to look at
+                return;
+            }
+            skip(target - position);
+        }
+
+        private byte[] readBytes(int count) throws IOException {
+            byte[] bytes = in.readNBytes(count);
+            if (bytes.length < count) {
+                throw new EOFException();
+            }
+            position += count;
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.rachnit.blog01.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compact read-only set of media public IDs.
+ *
+ * Stores a 64-bit hash per ID in a sorted long[] (8 bytes per entry instead
+ * of a String per entry in a HashSet). A hash collision can only make an
+ * unreferenced ID look referenced, so the garbage collector errs on the side
+ * of keeping a file, never deleting a used one.
+ */
+public final class PublicIdSet {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] hashes;
+
+    private PublicIdSet(long[] hashes) {
+        this.hashes = hashes;
+    }
+
+    public boolean contains(String publicId) {
+        return publicId != null && Arrays.binarySearch(hashes, hash(publicId)) >= 0;
+    }
+
+    public int size() {
+        return hashes.length;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 64-bit FNV-1a of the UTF-8 bytes
+     */
+    static long hash(String value) {
+        long hash = FNV_OFFSET;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xFF);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    public static class Builder {
+
+        private long[] hashes = new long[1024];
+        private int size;
+
+        public Builder add(String publicId) {
+            if (publicId == null) {
+                return this;
+            }
+            if (size == hashes.length) {
+                hashes = Arrays.copyOf(hashes, size * 2);
+            }
+            hashes[size++] = hash(publicId);
+            return this;
+        }
+
+        public PublicIdSet build() {
+            long[] sorted = Arrays.copyOf(hashes, size);
+            Arrays.sort(sorted);
+
+            // Drop duplicates (same media used by several posts)
+            int unique = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[unique++] = sorted[i];
+                }
+            }
+            return new PublicIdSet(Arrays.copyOf(sorted, unique));
+        }
+    }
+}
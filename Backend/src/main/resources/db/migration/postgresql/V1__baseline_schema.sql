@@ -0,0 +1,159 @@
+-- Baseline: the schema Hibernate (ddl-auto=update) created for the entities
+-- before migrations took over. Existing databases are baselined at this
+-- version and skip it, so nothing added after that point belongs here.
+
+create table comments (
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    post_id bigint not null,
+    user_id bigint not null,
+    content TEXT not null,
+    primary key (id)
+);
+
+create table likes (
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    post_id bigint not null,
+    user_id bigint not null,
+    primary key (id),
+    unique (user_id, post_id)
+);
+
+create table notifications (
+    read boolean not null,
+    actor_id bigint not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    post_id bigint not null,
+    recipient_id bigint not null,
+    message varchar(255) not null,
+    type varchar(255) not null,
+    primary key (id)
+);
+
+create table posts (
+    hidden boolean not null,
+    author_id bigint not null,
+    created_at timestamp(6) not null,
+    hidden_at timestamp(6),
+    id bigint generated by default as identity,
+    updated_at timestamp(6) not null,
+    media_type varchar(50) not null,
+    media_url varchar(1000) not null,
+    content TEXT not null,
+    hidden_reason varchar(255),
+    title varchar(255) not null,
+    primary key (id)
+);
+
+create table reports (
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    reported_user_id bigint not null,
+    reporter_id bigint not null,
+    resolved_at timestamp(6),
+    resolved_by_id bigint,
+    reason TEXT not null,
+    status varchar(255) not null,
+    primary key (id)
+);
+
+create table subscriptions (
+    created_at timestamp(6) not null,
+    follower_id bigint not null,
+    following_id bigint not null,
+    id bigint generated by default as identity,
+    primary key (id),
+    unique (follower_id, following_id)
+);
+
+create table users (
+    banned boolean not null,
+    banned_at timestamp(6),
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    ban_reason varchar(255),
+    email varchar(255) not null unique,
+    password varchar(255) not null,
+    role varchar(255) not null check (role in ('USER','ADMIN')),
+    username varchar(255) not null unique,
+    primary key (id)
+);
+
+alter table comments
+   add constraint FK8omq0tc18jd43bu5tjh6jvraq
+   foreign key (user_id)
+   references users
+   on delete cascade;
+
+alter table comments
+   add constraint FKh4c7lvsc298whoyd4w9ta25cr
+   foreign key (post_id)
+   references posts
+   on delete cascade;
+
+alter table likes
+   add constraint FKry8tnr4x2vwemv2bb0h5hyl0x
+   foreign key (post_id)
+   references posts
+   on delete cascade;
+
+alter table likes
+   add constraint FKnvx9seeqqyy71bij291pwiwrg
+   foreign key (user_id)
+   references users
+   on delete cascade;
+
+alter table notifications
+   add constraint FK4sd9fik0uthbk6d9rsxco4uja
+   foreign key (actor_id)
+   references users
+   on delete cascade;
+
+alter table notifications
+   add constraint FK599539lym3mnkbqks0u806eac
+   foreign key (post_id)
+   references posts
+   on delete cascade;
+
+alter table notifications
+   add constraint FKqqnsjxlwleyjbxlmm213jaj3f
+   foreign key (recipient_id)
+   references users
+   on delete cascade;
+
+alter table posts
+   add constraint FK6xvn0811tkyo3nfjk2xvqx6ns
+   foreign key (author_id)
+   references users
+   on delete cascade;
+
+alter table reports
+   add constraint FKb3bqi44mjskbnwupr31nfq5ui
+   foreign key (reported_user_id)
+   references users
+   on delete cascade;
+
+alter table reports
+   add constraint FKd3qiw2om5d2oh5xb7fbdcq225
+   foreign key (reporter_id)
+   references users
+   on delete cascade;
+
+alter table reports
+   add constraint FK4xrlndhf6w55wk8kehdtdguke
+   foreign key (resolved_by_id)
+   references users;
+
+alter table subscriptions
+   add constraint FKke02anvdqljk55rmw29srne17
+   foreign key (follower_id)
+   references users
+   on delete cascade;
+
+alter table subscriptions
+   add constraint FKila2i5k4me5ros95yp3ugsirm
+   foreign key (following_id)
+   references users
+   on delete cascade;
@@ -0,0 +1,41 @@
+-- Media bookkeeping added after the baseline: content-hash deduplication
+-- (media_assets), the retrying deletion queue (media_deletion_tasks) and
+-- the image renditions stored on posts.
+
+create table media_assets (
+    reference_count integer not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    size_bytes bigint not null,
+    resource_type varchar(20) not null,
+    content_hash varchar(64) not null,
+    public_id varchar(500) not null,
+    url varchar(1000) not null unique,
+    primary key (id)
+);
+
+create index idx_media_assets_content_hash
+   on media_assets (content_hash);
+
+create table media_deletion_tasks (
+    attempts integer not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    next_attempt_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    resource_type varchar(20) not null,
+    status varchar(20) not null,
+    public_id varchar(500) not null,
+    last_error varchar(1000),
+    primary key (id)
+);
+
+create index idx_media_deletion_tasks_due
+   on media_deletion_tasks (status, next_attempt_at);
+
+-- Renditions are filled in by the background image pipeline, so existing
+-- posts simply have none until their media is re-uploaded
+alter table posts add column thumbnail_url varchar(1000);
+alter table posts add column card_url varchar(1000);
+alter table posts add column full_url varchar(1000);
+alter table posts add column blur_placeholder TEXT;
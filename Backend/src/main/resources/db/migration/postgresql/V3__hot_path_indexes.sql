@@ -0,0 +1,29 @@
+-- Indexes for the feed, notification and comment queries.
+-- Built CONCURRENTLY so existing tables stay writable (see the .conf file:
+-- this script runs outside a transaction). IF NOT EXISTS makes a retry
+-- after a failed concurrent build safe once the invalid index is dropped.
+
+-- Personalized feed: posts by followed authors, newest first
+create index concurrently if not exists idx_posts_author_created_at
+    on posts (author_id, created_at desc);
+
+-- Admin listing and global ordering (includes hidden posts)
+create index concurrently if not exists idx_posts_created_at
+    on posts (created_at desc);
+
+-- Public feed: only visible posts, so hidden ones don't bloat the index
+create index concurrently if not exists idx_posts_visible_created_at
+    on posts (created_at desc)
+    where hidden = false;
+
+-- Notification list and unread count per recipient
+create index concurrently if not exists idx_notifications_recipient_read_created_at
+    on notifications (recipient_id, read, created_at desc);
+
+-- Comments of a post in order
+create index concurrently if not exists idx_comments_post_created_at
+    on comments (post_id, created_at);
+
+-- Followers of a user (new-post fan-out, follower counts)
+create index concurrently if not exists idx_subscriptions_following
+    on subscriptions (following_id);
@@ -0,0 +1,10 @@
+-- Indexes for the paged admin user list (one query with per-user counts).
+-- Built CONCURRENTLY, outside a transaction (see the .conf file).
+
+-- Reports against a user (reports count, "most reported" ordering)
+create index concurrently if not exists idx_reports_reported_user
+    on reports (reported_user_id);
+
+-- Newest users first, the default ordering
+create index concurrently if not exists idx_users_created_at
+    on users (created_at desc);
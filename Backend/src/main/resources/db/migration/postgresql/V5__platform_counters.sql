@@ -0,0 +1,10 @@
+-- Materialized admin dashboard statistics, one row per counter.
+-- Rows are created by the first recount at startup.
+
+create table platform_counters (
+    total bigint not null,
+    recomputed_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    stat varchar(32) not null,
+    primary key (stat)
+);
@@ -0,0 +1,22 @@
+-- Background user purge: accounts are marked deleted right away and their
+-- rows removed in chunks, with progress kept in user_purge_tasks.
+
+alter table users add column deleted_at timestamp(6);
+
+create table user_purge_tasks (
+    attempts integer not null,
+    created_at timestamp(6) not null,
+    finished_at timestamp(6),
+    id bigint generated by default as identity,
+    posts_deleted bigint not null,
+    rows_deleted bigint not null,
+    updated_at timestamp(6) not null,
+    user_id bigint not null,
+    status varchar(20) not null,
+    phase varchar(40),
+    username varchar(255) not null,
+    last_error varchar(1000),
+    primary key (id)
+);
+
+create index idx_user_purge_tasks_status on user_purge_tasks (status, created_at);
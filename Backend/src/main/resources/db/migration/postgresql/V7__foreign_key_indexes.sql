@@ -0,0 +1,22 @@
+-- Indexes on user and post foreign keys that had none, so the user purge
+-- (and the remaining ON DELETE CASCADEs) find dependent rows without
+-- scanning whole tables. Built CONCURRENTLY, outside a transaction (see
+-- the .conf file).
+
+-- Likes on a post
+create index concurrently if not exists idx_likes_post
+    on likes (post_id);
+
+-- Comments written by a user
+create index concurrently if not exists idx_comments_user
+    on comments (user_id);
+
+-- Notifications caused by a user / about a post
+create index concurrently if not exists idx_notifications_actor
+    on notifications (actor_id);
+create index concurrently if not exists idx_notifications_post
+    on notifications (post_id);
+
+-- Reports filed by a user
+create index concurrently if not exists idx_reports_reporter
+    on reports (reporter_id);
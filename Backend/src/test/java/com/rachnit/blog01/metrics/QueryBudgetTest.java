@@ -0,0 +1,179 @@
+package com.rachnit.blog01.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import com.rachnit.blog01.config.QueryBudgetProperties;
+import com.rachnit.blog01.entity.BlogPost;
+import com.rachnit.blog01.entity.Comment;
+import com.rachnit.blog01.entity.Report;
+import com.rachnit.blog01.entity.Subscription;
+import com.rachnit.blog01.entity.User;
+import com.rachnit.blog01.enums.Role;
+import com.rachnit.blog01.exception.QueryBudgetExceededException;
+import com.rachnit.blog01.repository.CommentRepository;
+import com.rachnit.blog01.repository.PostRepository;
+import com.rachnit.blog01.repository.ReportRepository;
+import com.rachnit.blog01.repository.SubscriptionRepository;
+import com.rachnit.blog01.repository.UserRepository;
+
+/**
+ * The list endpoints that used to run queries per row stay within the
+ * default budget (query-budget.mode=enforce in tests) with ROWS rows,
+ * several times what an N+1 would need to go over it.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class QueryBudgetTest {
+
+    private static final int ROWS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QueryBudgetProperties budgets;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    private User admin;
+    private BlogPost post;
+
+    @BeforeEach
+    void seed() {
+        admin = new User("budget-admin", "budget-admin@example.com", "password");
+        admin.setRole(Role.ADMIN);
+        admin = userRepository.save(admin);
+
+        post = postRepository.save(new BlogPost(
+            "Budget post",
+            "content",
+            "https://res.cloudinary.com/test/image/upload/v1/budget.jpg",
+            "image",
+            admin
+        ));
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            users.add(new User("budget-user-" + i, "budget-user-" + i + "@example.com", "password"));
+        }
+        users = userRepository.saveAll(users);
+
+        for (int i = 0; i < ROWS; i++) {
+            User user = users.get(i);
+            User next = users.get((i + 1) % ROWS);
+            subscriptionRepository.save(new Subscription(user, next));
+            postRepository.save(new BlogPost(
+                "Post " + i,
+                "content",
+                "https://res.cloudinary.com/test/image/upload/v1/budget-" + i + ".jpg",
+                "image",
+                user
+            ));
+            commentRepository.save(new Comment("Comment " + i, user, post));
+            reportRepository.save(new Report("Spam " + i, user, next));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        budgets.getEndpoints().remove("/api/users");
+        reportRepository.deleteAll();
+        commentRepository.deleteAll();
+        subscriptionRepository.deleteAll();
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void userDirectoryStaysWithinBudget() throws Exception {
+        mockMvc
+            .perform(get("/api/users").with(asUser("budget-user-0")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(ROWS + 1))
+            .andExpect(jsonPath("$[?(@.username == 'budget-user-0')].postsCount").value(1))
+            .andExpect(jsonPath("$[?(@.username == 'budget-user-1')].isFollowing").value(true));
+    }
+
+    @Test
+    void adminUserListStaysWithinBudget() throws Exception {
+        mockMvc
+            .perform(get("/api/admin/users").with(asAdmin()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(ROWS + 1));
+
+        mockMvc
+            .perform(get("/api/admin/users").param("page", "0").param("size", "50").with(asAdmin()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(ROWS + 1));
+    }
+
+    @Test
+    void postCommentsStayWithinBudget() throws Exception {
+        mockMvc
+            .perform(get("/api/posts/" + post.getId() + "/comments").with(asUser("budget-user-0")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(ROWS));
+    }
+
+    @Test
+    void reportListsStayWithinBudget() throws Exception {
+        mockMvc
+            .perform(get("/api/admin/reports").with(asAdmin()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(ROWS));
+
+        mockMvc
+            .perform(get("/api/admin/reports/status/PENDING").with(asAdmin()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(ROWS));
+    }
+
+    @Test
+    void overBudgetRequestFails() {
+        budgets.getEndpoints().put("/api/users", 1);
+
+        QueryBudgetExceededException exception = assertThrows(
+            QueryBudgetExceededException.class,
+            () -> mockMvc.perform(get("/api/users").with(asUser("budget-user-0")))
+        );
+        assertEquals(1, exception.getBudget());
+    }
+
+    private static RequestPostProcessor asUser(String username) {
+        return user(username).roles("USER");
+    }
+
+    private static RequestPostProcessor asAdmin() {
+        return user("budget-admin").roles("ADMIN");
+    }
+}
@@ -0,0 +1,176 @@
+package com.rachnit.blog01.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImageResizerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void rejectsHugeDeclaredSizeBeforeDecoding() throws IOException {
+        // A few dozen bytes declaring 30000x30000 pixels (3.6 GB as ARGB)
+        Path file = write("bomb.png", pngHeader(30_000, 30_000));
+
+        IOException e = assertThrows(IOException.class, () -> ImageResizer.read(file, 1600));
+        assertTrue(e.getMessage().contains("30000x30000"));
+    }
+
+    @Test
+    void subsamplesLargeImagesWhileDecoding() throws IOException {
+        Path file = write("wide.png", png(new BufferedImage(5000, 40, BufferedImage.TYPE_INT_RGB)));
+
+        BufferedImage image = ImageResizer.read(file, 1600);
+
+        // Never below the requested width, never twice it
+        assertTrue(image.getWidth() >= 1600 && image.getWidth() < 3200, "width " + image.getWidth());
+    }
+
+    @Test
+    void smallImagesAreDecodedAsIs() throws IOException {
+        Path file = write("small.png", png(new BufferedImage(300, 200, BufferedImage.TYPE_INT_RGB)));
+
+        BufferedImage image = ImageResizer.read(file, 1600);
+
+        assertEquals(300, image.getWidth());
+        assertEquals(200, image.getHeight());
+    }
+
+    @Test
+    void appliesExifRotation() throws IOException {
+        // Stored sideways: left half red, right half blue. Orientation 6
+        // means "rotate 90 clockwise", so red ends up on top.
+        Path file = write("phone.jpg", withOrientation(jpeg(halves(80, 40)), 6));
+
+        assertEquals(6, ImageResizer.readOrientation(file));
+        BufferedImage image = ImageResizer.read(file, 1600);
+
+        assertEquals(40, image.getWidth());
+        assertEquals(80, image.getHeight());
+        assertTrue(isRed(image.getRGB(20, 10)));
+        assertTrue(isBlue(image.getRGB(20, 70)));
+    }
+
+    @Test
+    void appliesUpsideDownOrientation() throws IOException {
+        Path file = write("flipped.jpg", withOrientation(jpeg(halves(80, 40)), 3));
+
+        BufferedImage image = ImageResizer.read(file, 1600);
+
+        assertEquals(80, image.getWidth());
+        assertTrue(isBlue(image.getRGB(10, 20)));
+        assertTrue(isRed(image.getRGB(70, 20)));
+    }
+
+    @Test
+    void imagesWithoutExifAreUpright() throws IOException {
+        Path jpeg = write("plain.jpg", jpeg(halves(80, 40)));
+        Path png = write("plain.png", png(halves(80, 40)));
+
+        assertEquals(1, ImageResizer.readOrientation(jpeg));
+        assertEquals(1, ImageResizer.readOrientation(png));
+        assertTrue(isRed(ImageResizer.read(jpeg, 1600).getRGB(10, 20)));
+    }
+
+    @Test
+    void unsupportedFormatReturnsNull() throws IOException {
+        Path file = write("image.webp", "RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII));
+
+        assertNull(ImageResizer.read(file, 1600));
+    }
+
+    private Path write(String name, byte[] bytes) throws IOException {
+        return Files.write(dir.resolve(name), bytes);
+    }
+
+    private static BufferedImage halves(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, width / 2, height);
+        g.setColor(Color.BLUE);
+        g.fillRect(width / 2, 0, width - width / 2, height);
+        g.dispose();
+        return image;
+    }
+
+    private static boolean isRed(int rgb) {
+        Color c = new Color(rgb);
+        return c.getRed() > 200 && c.getBlue() < 60;
+    }
+
+    private static boolean isBlue(int rgb) {
+        Color c = new Color(rgb);
+        return c.getBlue() > 200 && c.getRed() < 60;
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static byte[] jpeg(BufferedImage image) throws IOException {
+        return ImageResizer.encode(image, 0.95f);
+    }
+
+    // PNG signature and IHDR only, no pixel data
+    private static byte[] pngHeader(int width, int height) {
+        ByteBuffer ihdr = ByteBuffer.allocate(17)
+            .put("IHDR".getBytes(StandardCharsets.US_ASCII))
+            .putInt(width)
+            .putInt(height)
+            .put(new byte[] { 8, 6, 0, 0, 0 }); // 8-bit RGBA
+        CRC32 crc = new CRC32();
+        crc.update(ihdr.array());
+        return ByteBuffer.allocate(8 + 4 + 17 + 4)
+            .put(new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' })
+            .putInt(13)
+            .put(ihdr.array())
+            .putInt((int) crc.getValue())
+            .array();
+    }
+
+    // Insert an Exif APP1 segment (big-endian TIFF, IFD0 with one entry) after SOI
+    private static byte[] withOrientation(byte[] jpeg, int orientation) {
+        ByteBuffer exif = ByteBuffer.allocate(6 + 8 + 2 + 12 + 4)
+            .put("Exif\0\0".getBytes(StandardCharsets.US_ASCII))
+            .put("MM".getBytes(StandardCharsets.US_ASCII))
+            .putShort((short) 42)
+            .putInt(8)
+            .putShort((short) 1)
+            .putShort((short) 0x0112)
+            .putShort((short) 3) // SHORT
+            .putInt(1)
+            .putShort((short) orientation)
+            .putShort((short) 0)
+            .putInt(0);
+        byte[] segment = exif.array();
+        return ByteBuffer.allocate(jpeg.length + 4 + segment.length)
+            .put(jpeg, 0, 2)
+            .putShort((short) 0xFFE1)
+            .putShort((short) (segment.length + 2))
+            .put(segment)
+            .put(jpeg, 2, jpeg.length - 2)
+            .array();
+    }
+}
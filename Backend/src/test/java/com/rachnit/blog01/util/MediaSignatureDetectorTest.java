@@ -0,0 +1,53 @@
+package com.rachnit.blog01.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MediaSignatureDetectorTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "isom", "iso5", "mp41", "mp42", "avc1", "M4V ", "dash" })
+    void videoBrandsAreMp4(String brand) {
+        assertEquals("video/mp4", detect(ftyp(brand)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "heic", "heix", "mif1", "msf1", "avif", "avis", "crx " })
+    void imageAndUnknownBrandsAreRejected(String brand) {
+        assertNull(detect(ftyp(brand)));
+    }
+
+    @Test
+    void quickTimeBrand() {
+        assertEquals("video/quicktime", detect(ftyp("qt  ")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 8, 10 })
+    void ftypWithoutBrandIsRejected(int length) {
+        byte[] header = ftyp("isom");
+        assertNull(MediaSignatureDetector.detect(header, length));
+    }
+
+    private static String detect(byte[] header) {
+        return MediaSignatureDetector.detect(header, header.length);
+    }
+
+    // size, 'ftyp', major brand, minor version, one compatible brand
+    private static byte[] ftyp(String majorBrand) {
+        return ByteBuffer.allocate(20)
+            .putInt(20)
+            .put("ftyp".getBytes(StandardCharsets.US_ASCII))
+            .put(majorBrand.getBytes(StandardCharsets.US_ASCII))
+            .putInt(0)
+            .put(majorBrand.getBytes(StandardCharsets.US_ASCII))
+            .array();
+    }
+}
@@ -0,0 +1,185 @@
+package com.rachnit.blog01.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Box trees are built by hand: size + type headers around just the fields
+ * the reader looks at.
+ */
+class Mp4MetadataReaderTest {
+
+    @Test
+    void readsDurationResolutionAndCodec() throws IOException {
+        byte[] file = concat(
+            box("ftyp", ascii("isom"), int32(512), ascii("isommp41")),
+            box("moov", movieHeader(1000, 12_500), videoTrack(1280, 720, "avc1")),
+            box("mdat", new byte[64])
+        );
+
+        Mp4MetadataReader.VideoMetadata metadata = read(file);
+
+        assertEquals(12.5, metadata.getDurationSeconds());
+        assertEquals(1280, metadata.getWidth());
+        assertEquals(720, metadata.getHeight());
+        assertEquals("avc1", metadata.getCodec());
+    }
+
+    @Test
+    void skipsLargesizeBoxesAndReads64BitDuration() throws IOException {
+        // mdat before moov with a 64-bit size, and a version 1 mvhd whose
+        // duration doesn't fit in 32 bits
+        byte[] file = concat(
+            box("ftyp", ascii("mp42"), int32(0)),
+            largeBox("mdat", new byte[4096]),
+            largeBox("moov", movieHeaderV1(100_000_000, 5_000_000_000L), videoTrack(640, 360, "hvc1"))
+        );
+
+        Mp4MetadataReader.VideoMetadata metadata = read(file);
+
+        assertEquals(50.0, metadata.getDurationSeconds());
+        assertEquals(640, metadata.getWidth());
+        assertEquals("hvc1", metadata.getCodec());
+    }
+
+    @Test
+    void missingMovieHeaderMeansNoDuration() throws IOException {
+        byte[] file = concat(
+            box("ftyp", ascii("isom"), int32(0)),
+            box("moov", videoTrack(1920, 1080, "avc1"))
+        );
+
+        Mp4MetadataReader.VideoMetadata metadata = read(file);
+
+        assertFalse(metadata.hasDuration());
+        assertEquals(1920, metadata.getWidth());
+    }
+
+    @Test
+    void unknownDurationMeansNoDuration() throws IOException {
+        byte[] file = box("moov", movieHeader(1000, 0xFFFFFFFFL));
+
+        assertFalse(read(file).hasDuration());
+    }
+
+    @Test
+    void fileWithoutMoovReturnsNull() throws IOException {
+        byte[] file = concat(
+            box("ftyp", ascii("isom"), int32(0)),
+            box("mdat", new byte[32])
+        );
+
+        assertNull(read(file));
+    }
+
+    @Test
+    void truncatedTopLevelHeaderEndsTheScan() throws IOException {
+        // Three stray bytes where the next box header should be
+        byte[] file = concat(box("ftyp", ascii("isom"), int32(0)), new byte[3]);
+
+        assertNull(read(file));
+    }
+
+    @Test
+    void truncatedMoovFails() {
+        byte[] moov = box("moov", movieHeader(1000, 12_500), videoTrack(1280, 720, "avc1"));
+        byte[] file = Arrays.copyOf(moov, 40);
+
+        assertThrows(IOException.class, () -> read(file));
+    }
+
+    @Test
+    void childOverflowingItsParentFails() {
+        byte[] mvhd = movieHeader(1000, 12_500);
+        // Claim more bytes than moov holds
+        ByteBuffer.wrap(mvhd).putInt(0, mvhd.length + 100);
+        byte[] file = box("moov", mvhd);
+
+        IOException e = assertThrows(IOException.class, () -> read(file));
+        assertTrue(e.getMessage().contains("overflows"));
+    }
+
+    @Test
+    void boxSmallerThanItsHeaderFails() {
+        byte[] file = concat(int32(4), ascii("free"));
+
+        assertThrows(IOException.class, () -> read(file));
+    }
+
+    private static Mp4MetadataReader.VideoMetadata read(byte[] file) throws IOException {
+        return Mp4MetadataReader.read(new ByteArrayInputStream(file));
+    }
+
+    private static byte[] movieHeader(long timescale, long duration) {
+        return box("mvhd",
+            int32(0),          // version 0 + flags
+            new byte[8],       // creation + modification time
+            int32(timescale),
+            int32(duration),
+            new byte[80]);     // rate, volume, matrix... (skipped)
+    }
+
+    private static byte[] movieHeaderV1(long timescale, long duration) {
+        return box("mvhd",
+            int32(0x01000000), // version 1 + flags
+            new byte[16],
+            int32(timescale),
+            int64(duration),
+            new byte[80]);
+    }
+
+    private static byte[] videoTrack(int width, int height, String codec) {
+        byte[] trackHeader = box("tkhd",
+            new byte[76],
+            int32((long) width << 16),
+            int32((long) height << 16));
+        byte[] handler = box("hdlr", new byte[8], ascii("vide"), new byte[12]);
+        byte[] sampleDescription = box("stsd",
+            int32(0), int32(1), int32(86), ascii(codec), new byte[78]);
+        return box("trak",
+            trackHeader,
+            box("mdia", handler, box("minf", box("stbl", sampleDescription))));
+    }
+
+    private static byte[] box(String type, byte[]... payload) {
+        byte[] body = concat(payload);
+        return concat(int32(8 + body.length), ascii(type), body);
+    }
+
+    private static byte[] largeBox(String type, byte[]... payload) {
+        byte[] body = concat(payload);
+        return concat(int32(1), ascii(type), int64(16 + body.length), body);
+    }
+
+    private static byte[] int32(long value) {
+        return ByteBuffer.allocate(4).putInt((int) value).array();
+    }
+
+    private static byte[] int64(long value) {
+        return ByteBuffer.allocate(8).putLong(value).array();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+}
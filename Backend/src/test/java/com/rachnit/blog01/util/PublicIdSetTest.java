@@ -0,0 +1,99 @@
+package com.rachnit.blog01.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PublicIdSetTest {
+
+    // Two ids with the same 64-bit FNV-1a hash (found by a collision search)
+    private static final String COLLIDING = "vpeCkO5PJDi";
+    private static final String COLLIDING_TWIN = "CX7inrVtSQc";
+
+    @Test
+    void containsAddedIds() {
+        PublicIdSet set = PublicIdSet.builder()
+            .add("blog-posts/images/1712345678_ab12cd34_photo")
+            .add("blog-posts/videos/1712345678_ef56ab78_clip")
+            .build();
+
+        assertTrue(set.contains("blog-posts/images/1712345678_ab12cd34_photo"));
+        assertTrue(set.contains("blog-posts/videos/1712345678_ef56ab78_clip"));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    void duplicatesAreStoredOnce() {
+        // Deduplicated media: several posts reference the same public id
+        PublicIdSet set = PublicIdSet.builder()
+            .add("blog-posts/images/shared")
+            .add("blog-posts/images/other")
+            .add("blog-posts/images/shared")
+            .add("blog-posts/images/shared")
+            .build();
+
+        assertEquals(2, set.size());
+        assertTrue(set.contains("blog-posts/images/shared"));
+    }
+
+    @Test
+    void absentIdsAreNotContained() {
+        PublicIdSet set = PublicIdSet.builder()
+            .add("blog-posts/images/photo")
+            .add(null)
+            .build();
+
+        assertFalse(set.contains("blog-posts/images/photo_thumb"));
+        assertFalse(set.contains("blog-posts/images/phot"));
+        assertFalse(set.contains("BLOG-POSTS/IMAGES/PHOTO"));
+        assertFalse(set.contains(""));
+        assertFalse(set.contains(null));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void emptySetContainsNothing() {
+        PublicIdSet set = PublicIdSet.builder().build();
+
+        assertEquals(0, set.size());
+        assertFalse(set.contains("blog-posts/images/photo"));
+    }
+
+    @Test
+    void collidingIdLooksReferenced() {
+        assertEquals(PublicIdSet.hash(COLLIDING), PublicIdSet.hash(COLLIDING_TWIN));
+
+        PublicIdSet set = PublicIdSet.builder().add(COLLIDING).build();
+
+        // Errs on keeping: the unreferenced twin is never garbage collected
+        assertTrue(set.contains(COLLIDING_TWIN));
+    }
+
+    @Test
+    void collidingIdsShareOneEntry() {
+        PublicIdSet set = PublicIdSet.builder()
+            .add(COLLIDING)
+            .add(COLLIDING_TWIN)
+            .build();
+
+        assertEquals(1, set.size());
+        assertTrue(set.contains(COLLIDING));
+        assertTrue(set.contains(COLLIDING_TWIN));
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        PublicIdSet.Builder builder = PublicIdSet.builder();
+        for (int i = 0; i < 5000; i++) {
+            builder.add("blog-posts/images/" + i);
+        }
+        PublicIdSet set = builder.build();
+
+        assertEquals(5000, set.size());
+        assertTrue(set.contains("blog-posts/images/0"));
+        assertTrue(set.contains("blog-posts/images/4999"));
+        assertFalse(set.contains("blog-posts/images/5000"));
+    }
+}
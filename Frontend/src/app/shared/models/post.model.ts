@@ -4,6 +4,10 @@ export interface Post {
   content: string;
   mediaUrl: string;
   mediaType: 'image' | 'video';
+  thumbnailUrl?: string | null; // Resized image renditions (generated after upload)
+  cardUrl?: string | null;
+  fullUrl?: string | null;
+  blurPlaceholder?: string | null; // Tiny data URI shown while the image loads
   authorId: number;
   authorUsername: string;
   likesCount: number;